@@ -0,0 +1,63 @@
+package com.mycompany.myapp.domain;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.hibernate5.Hibernate5Module;
+import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Benchmarks of the Jackson serialization of {@link Employee} graphs, with the modules registered by
+ * {@code JacksonConfiguration}: a single employee with its competences, and a page of employees.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EmployeeSerializationBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+
+    @Param({ "0", "10" })
+    private int competencesPerEmployee;
+
+    private ObjectMapper objectMapper;
+
+    private Employee employee;
+
+    private List<Employee> employees;
+
+    @Setup
+    public void setup() {
+        objectMapper =
+            new ObjectMapper().registerModule(new JavaTimeModule()).registerModule(new Jdk8Module()).registerModule(new Hibernate5Module());
+
+        Category category = new Category().id(1L).name("Programming languages");
+        employees = new ArrayList<>();
+        long competenceId = 1;
+        for (long i = 1; i <= PAGE_SIZE; i++) {
+            Employee pageEmployee = new Employee().id(i).name("Name " + i).firstName("First name " + i).address(i + " main street");
+            for (int j = 0; j < competencesPerEmployee; j++) {
+                pageEmployee.addCompetence(new Competence().id(competenceId++).name("Competence " + j).level(j % 5).category(category));
+            }
+            employees.add(pageEmployee);
+        }
+        employee = employees.get(0);
+    }
+
+    @Benchmark
+    public byte[] serializeEmployee() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(employee);
+    }
+
+    @Benchmark
+    public byte[] serializeEmployeePage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(employees);
+    }
+}
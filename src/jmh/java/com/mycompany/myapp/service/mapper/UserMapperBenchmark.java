@@ -0,0 +1,79 @@
+package com.mycompany.myapp.service.mapper;
+
+import com.mycompany.myapp.domain.Authority;
+import com.mycompany.myapp.domain.User;
+import com.mycompany.myapp.security.AuthoritiesConstants;
+import com.mycompany.myapp.service.dto.AdminUserDTO;
+import com.mycompany.myapp.service.dto.UserDTO;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Benchmarks of the {@link UserMapper} conversions used by the user management endpoints.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class UserMapperBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+
+    private UserMapper userMapper;
+
+    private User user;
+
+    private AdminUserDTO adminUserDTO;
+
+    private List<User> users;
+
+    @Setup
+    public void setup() {
+        userMapper = new UserMapper();
+        Authority admin = new Authority();
+        admin.setName(AuthoritiesConstants.ADMIN);
+        Authority userAuthority = new Authority();
+        userAuthority.setName(AuthoritiesConstants.USER);
+
+        users = new ArrayList<>();
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            User pageUser = new User();
+            pageUser.setId((long) i);
+            pageUser.setLogin("user" + i);
+            pageUser.setFirstName("first" + i);
+            pageUser.setLastName("last" + i);
+            pageUser.setEmail("user" + i + "@localhost");
+            pageUser.setActivated(true);
+            pageUser.setLangKey("en");
+            pageUser.setAuthorities(Set.of(admin, userAuthority));
+            users.add(pageUser);
+        }
+        user = users.get(0);
+        adminUserDTO = new AdminUserDTO(user);
+    }
+
+    @Benchmark
+    public AdminUserDTO userToAdminUserDTO() {
+        return userMapper.userToAdminUserDTO(user);
+    }
+
+    @Benchmark
+    public User userDTOToUser() {
+        return userMapper.userDTOToUser(adminUserDTO);
+    }
+
+    @Benchmark
+    public List<UserDTO> usersToUserDTOs() {
+        return userMapper.usersToUserDTOs(users);
+    }
+
+    @Benchmark
+    public List<AdminUserDTO> usersToAdminUserDTOs() {
+        return userMapper.usersToAdminUserDTOs(users);
+    }
+}
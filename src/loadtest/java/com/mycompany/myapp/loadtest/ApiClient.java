@@ -0,0 +1,151 @@
+package com.mycompany.myapp.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+
+/**
+ * Minimal client of the REST API, authenticated with a JWT, shared by all the load-test clients.
+ */
+final class ApiClient {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final HttpClient httpClient = HttpClient
+        .newBuilder()
+        .version(HttpClient.Version.HTTP_1_1)
+        .connectTimeout(Duration.ofSeconds(10))
+        .build();
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final String url;
+
+    private volatile String token;
+
+    ApiClient(String url) {
+        this.url = url;
+    }
+
+    ObjectMapper getObjectMapper() {
+        return objectMapper;
+    }
+
+    /**
+     * Authenticate with {@code POST /api/authenticate}, the token is then sent with every request.
+     */
+    void authenticate(String username, String password) throws IOException, InterruptedException {
+        String body = objectMapper.writeValueAsString(objectMapper.createObjectNode().put("username", username).put("password", password));
+        HttpResponse<String> response = send(Request.post("/api/authenticate", "application/json", body));
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Authentication of '" + username + "' failed with status " + response.statusCode());
+        }
+        token = objectMapper.readTree(response.body()).get("id_token").asText();
+    }
+
+    HttpResponse<String> send(Request request) throws IOException, InterruptedException {
+        return httpClient.send(httpRequest(request), HttpResponse.BodyHandlers.ofString());
+    }
+
+    /**
+     * Discard the response body, without decoding it.
+     */
+    int sendDiscarding(Request request) throws IOException, InterruptedException {
+        return httpClient.send(httpRequest(request), HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    InputStream stream(Request request) throws IOException, InterruptedException {
+        HttpResponse<InputStream> response = httpClient.send(httpRequest(request), HttpResponse.BodyHandlers.ofInputStream());
+        if (response.statusCode() != 200) {
+            response.body().close();
+            throw new IllegalStateException(request + " failed with status " + response.statusCode());
+        }
+        return response.body();
+    }
+
+    JsonNode sendForJson(Request request) throws IOException, InterruptedException {
+        HttpResponse<String> response = send(request);
+        if (response.statusCode() >= 400) {
+            throw new IllegalStateException(request + " failed with status " + response.statusCode() + ": " + response.body());
+        }
+        return objectMapper.readTree(response.body());
+    }
+
+    private HttpRequest httpRequest(Request request) {
+        HttpRequest.Builder builder = HttpRequest
+            .newBuilder(URI.create(url + request.getPath()))
+            .timeout(REQUEST_TIMEOUT)
+            .header("Accept", "*/*")
+            .method(
+                request.getMethod(),
+                request.getBody() == null ? HttpRequest.BodyPublishers.noBody() : HttpRequest.BodyPublishers.ofString(request.getBody())
+            );
+        if (request.getContentType() != null) {
+            builder.header("Content-Type", request.getContentType());
+        }
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder.build();
+    }
+
+    /**
+     * An HTTP request, relative to the base URL of the API.
+     */
+    static final class Request {
+
+        private final String method;
+
+        private final String path;
+
+        private final String contentType;
+
+        private final String body;
+
+        private Request(String method, String path, String contentType, String body) {
+            this.method = method;
+            this.path = path;
+            this.contentType = contentType;
+            this.body = body;
+        }
+
+        static Request get(String path) {
+            return new Request("GET", path, null, null);
+        }
+
+        static Request post(String path, String contentType, String body) {
+            return new Request("POST", path, contentType, body);
+        }
+
+        static Request patch(String path, String body) {
+            return new Request("PATCH", path, "application/merge-patch+json", body);
+        }
+
+        String getMethod() {
+            return method;
+        }
+
+        String getPath() {
+            return path;
+        }
+
+        String getContentType() {
+            return contentType;
+        }
+
+        String getBody() {
+            return body;
+        }
+
+        @Override
+        public String toString() {
+            return method + " " + path;
+        }
+    }
+}
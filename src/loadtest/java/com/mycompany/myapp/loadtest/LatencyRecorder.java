@@ -0,0 +1,52 @@
+package com.mycompany.myapp.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * Latencies of one operation, in nanoseconds. Not thread-safe: every load-test client has its own recorders,
+ * merged at the end of the run.
+ */
+final class LatencyRecorder {
+
+    private long[] latencies = new long[1024];
+
+    private int count;
+
+    private long errors;
+
+    void record(long latency, boolean error) {
+        if (count == latencies.length) {
+            latencies = Arrays.copyOf(latencies, count * 2);
+        }
+        latencies[count++] = latency;
+        if (error) {
+            errors++;
+        }
+    }
+
+    void merge(LatencyRecorder other) {
+        if (count + other.count > latencies.length) {
+            latencies = Arrays.copyOf(latencies, count + other.count);
+        }
+        System.arraycopy(other.latencies, 0, latencies, count, other.count);
+        count += other.count;
+        errors += other.errors;
+    }
+
+    int getCount() {
+        return count;
+    }
+
+    long getErrors() {
+        return errors;
+    }
+
+    /**
+     * Sorted copy of the recorded latencies.
+     */
+    long[] sortedLatencies() {
+        long[] sorted = Arrays.copyOf(latencies, count);
+        Arrays.sort(sorted);
+        return sorted;
+    }
+}
@@ -0,0 +1,65 @@
+package com.mycompany.myapp.loadtest;
+
+import com.mycompany.myapp.EmployeeManagementApp;
+import java.nio.file.Path;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Load test of the REST API.
+ * <p>
+ * It boots the application with the {@code loadtest} profile on an in-memory H2 database (or targets a running
+ * instance given with {@code --url}), seeds it with the Liquibase fake data scaled up, then drives a mixed read/write
+ * workload from concurrent clients and reports the throughput and the p50/p95/p99 latencies of every operation.
+ * <p>
+ * Run it with {@code ./mvnw -Ploadtest test-compile exec:exec}, options being given with {@code -Dloadtest.args}:
+ * <ul>
+ *     <li>{@code --url}: base URL of a running instance, the application is booted when not set;</li>
+ *     <li>{@code --scale}: number of copies of the fake employees to seed, 0 to use the existing data (default 1000);</li>
+ *     <li>{@code --competences}: number of competences of every seeded employee (default 5);</li>
+ *     <li>{@code --threads}: number of concurrent clients (default 16);</li>
+ *     <li>{@code --warmup} and {@code --duration}: durations in seconds of the warmup and of the measurement (default 10 and 60);</li>
+ *     <li>{@code --mix}: weights of the operations, e.g. {@code get-employee:50,update-competence:5}, see {@link Operation};</li>
+ *     <li>{@code --report}: CSV file the results are written to (default {@code target/loadtest/report.csv}).</li>
+ * </ul>
+ */
+public final class LoadTest {
+
+    private LoadTest() {}
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        ConfigurableApplicationContext context = null;
+        String url = options.getUrl();
+        if (url == null) {
+            context = new SpringApplicationBuilder(EmployeeManagementApp.class).profiles("loadtest").run();
+            url = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+        }
+        try {
+            ApiClient client = new ApiClient(url);
+            client.authenticate(options.getUsername(), options.getPassword());
+            if (options.getScale() > 0) {
+                LoadTestData.seed(client, options.getScale(), options.getCompetencesPerEmployee());
+            }
+            LoadTestData data = LoadTestData.load(client);
+            System.out.printf(
+                "Load test of %s: %d employees, %d competences, %d categories, %d threads%n",
+                url,
+                data.getEmployeeIds().length,
+                data.getCompetenceIds().length,
+                data.getCategoryIds().length,
+                options.getThreads()
+            );
+
+            LoadTestReport report = new Workload(client, data, options).run();
+            report.print(System.out);
+            Path reportFile = options.getReport();
+            report.writeCsv(reportFile);
+            System.out.println("Report written to " + reportFile.toAbsolutePath());
+        } finally {
+            if (context != null) {
+                context.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package com.mycompany.myapp.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mycompany.myapp.loadtest.ApiClient.Request;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Data the workload runs against: the identifiers of the existing entities.
+ * <p>
+ * Seeding goes through the API too: categories are created one by one, and employees with their competences are
+ * imported through {@code POST /api/employees/bulk}, from the Liquibase fake data copied {@code scale} times.
+ */
+final class LoadTestData {
+
+    private static final String FAKE_DATA = "config/liquibase/fake-data/";
+
+    private static final int BULK_IMPORT_ROWS = 5000;
+
+    private static final int MAX_LEVEL = 5;
+
+    private final long[] employeeIds;
+
+    private final long[] competenceIds;
+
+    private final long[] categoryIds;
+
+    private LoadTestData(long[] employeeIds, long[] competenceIds, long[] categoryIds) {
+        this.employeeIds = employeeIds;
+        this.competenceIds = competenceIds;
+        this.categoryIds = categoryIds;
+    }
+
+    long[] getEmployeeIds() {
+        return employeeIds;
+    }
+
+    long[] getCompetenceIds() {
+        return competenceIds;
+    }
+
+    long[] getCategoryIds() {
+        return categoryIds;
+    }
+
+    static void seed(ApiClient client, int scale, int competencesPerEmployee) throws IOException, InterruptedException {
+        ObjectMapper objectMapper = client.getObjectMapper();
+        List<Long> categoryIds = new ArrayList<>();
+        for (String[] category : readFakeData("category.csv")) {
+            String body = objectMapper.writeValueAsString(objectMapper.createObjectNode().put("name", category[1]));
+            categoryIds.add(client.sendForJson(Request.post("/api/categories", "application/json", body)).get("id").asLong());
+        }
+        List<String[]> employees = readFakeData("employee.csv");
+        List<String[]> competences = readFakeData("competence.csv");
+
+        long startTime = System.nanoTime();
+        StringBuilder csv = new StringBuilder();
+        int rows = 0;
+        long imported = 0;
+        for (int copy = 0; copy < scale; copy++) {
+            for (int i = 0; i < employees.size(); i++) {
+                String[] employee = employees.get(i);
+                List<String> employeeCompetences = new ArrayList<>(competencesPerEmployee);
+                for (int j = 0; j < competencesPerEmployee; j++) {
+                    String[] competence = competences.get((copy + i * competencesPerEmployee + j) % competences.size());
+                    int level = Math.floorMod(Integer.parseInt(competence[2]), MAX_LEVEL) + 1;
+                    long categoryId = categoryIds.get((copy + j) % categoryIds.size());
+                    employeeCompetences.add(competence[1] + ":" + level + ":" + categoryId);
+                }
+                csv
+                    .append(csvField(employee[1] + " " + copy))
+                    .append(';')
+                    .append(csvField(employee[2]))
+                    .append(';')
+                    .append(csvField(employee[3]))
+                    .append(';')
+                    .append(csvField(String.join("|", employeeCompetences)))
+                    .append('\n');
+                if (++rows == BULK_IMPORT_ROWS) {
+                    imported += importEmployees(client, csv);
+                    rows = 0;
+                }
+            }
+        }
+        if (rows > 0) {
+            imported += importEmployees(client, csv);
+        }
+        System.out.printf("Seeded %d employees in %d ms%n", imported, (System.nanoTime() - startTime) / 1_000_000);
+    }
+
+    private static long importEmployees(ApiClient client, StringBuilder csv) throws IOException, InterruptedException {
+        JsonNode result = client.sendForJson(
+            Request.post("/api/employees/bulk", "text/csv", "name;first_name;address;competences\n" + csv)
+        );
+        csv.setLength(0);
+        if (result.get("failed").asLong() > 0) {
+            System.out.println("Some employees could not be seeded: " + result.get("errors"));
+        }
+        return result.get("imported").asLong();
+    }
+
+    /**
+     * Load the identifiers of the employees and of their competences from {@code GET /api/employees/export}.
+     */
+    static LoadTestData load(ApiClient client) throws IOException, InterruptedException {
+        ObjectMapper objectMapper = client.getObjectMapper();
+        List<Long> employeeIds = new ArrayList<>();
+        List<Long> competenceIds = new ArrayList<>();
+        try (
+            BufferedReader lines = new BufferedReader(
+                new InputStreamReader(client.stream(Request.get("/api/employees/export")), StandardCharsets.UTF_8)
+            )
+        ) {
+            String line;
+            while ((line = lines.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                JsonNode employee = objectMapper.readTree(line);
+                employeeIds.add(employee.get("id").asLong());
+                for (JsonNode competence : employee.path("competences")) {
+                    competenceIds.add(competence.get("id").asLong());
+                }
+            }
+        }
+        List<Long> categoryIds = new ArrayList<>();
+        for (JsonNode category : client.sendForJson(Request.get("/api/categories"))) {
+            categoryIds.add(category.get("id").asLong());
+        }
+        if (employeeIds.isEmpty() || competenceIds.isEmpty() || categoryIds.isEmpty()) {
+            throw new IllegalStateException("The load test needs employees, competences and categories, seed them with --scale");
+        }
+        return new LoadTestData(toArray(employeeIds), toArray(competenceIds), toArray(categoryIds));
+    }
+
+    private static List<String[]> readFakeData(String file) throws IOException {
+        InputStream in = LoadTestData.class.getClassLoader().getResourceAsStream(FAKE_DATA + file);
+        if (in == null) {
+            throw new IllegalStateException("Fake data " + FAKE_DATA + file + " not found in the classpath");
+        }
+        try (BufferedReader lines = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            // skip the header
+            return lines.lines().skip(1).filter(line -> !line.isBlank()).map(line -> line.split(";", -1)).collect(Collectors.toList());
+        }
+    }
+
+    private static String csvField(String value) {
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    private static long[] toArray(List<Long> ids) {
+        return ids.stream().mapToLong(Long::longValue).toArray();
+    }
+}
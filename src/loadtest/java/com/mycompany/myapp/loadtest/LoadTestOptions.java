@@ -0,0 +1,138 @@
+package com.mycompany.myapp.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Options of the {@link LoadTest}, given as {@code --name=value} arguments.
+ */
+final class LoadTestOptions {
+
+    private String url;
+
+    private String username = "admin";
+
+    private String password = "admin";
+
+    private int scale = 1000;
+
+    private int competencesPerEmployee = 5;
+
+    private int threads = 16;
+
+    private Duration warmup = Duration.ofSeconds(10);
+
+    private Duration duration = Duration.ofSeconds(60);
+
+    private final Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+
+    private Path report = Path.of("target", "loadtest", "report.csv");
+
+    private LoadTestOptions() {
+        for (Operation operation : Operation.values()) {
+            weights.put(operation, operation.getDefaultWeight());
+        }
+    }
+
+    static LoadTestOptions parse(String[] args) {
+        LoadTestOptions options = new LoadTestOptions();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (!arg.startsWith("--") || separator < 0) {
+                throw new IllegalArgumentException("Invalid option '" + arg + "', expected --name=value");
+            }
+            String name = arg.substring(2, separator);
+            String value = arg.substring(separator + 1);
+            switch (name) {
+                case "url":
+                    options.url = value.endsWith("/") ? value.substring(0, value.length() - 1) : value;
+                    break;
+                case "username":
+                    options.username = value;
+                    break;
+                case "password":
+                    options.password = value;
+                    break;
+                case "scale":
+                    options.scale = Integer.parseInt(value);
+                    break;
+                case "competences":
+                    options.competencesPerEmployee = Integer.parseInt(value);
+                    break;
+                case "threads":
+                    options.threads = Integer.parseInt(value);
+                    break;
+                case "warmup":
+                    options.warmup = Duration.ofSeconds(Long.parseLong(value));
+                    break;
+                case "duration":
+                    options.duration = Duration.ofSeconds(Long.parseLong(value));
+                    break;
+                case "mix":
+                    options.parseMix(value);
+                    break;
+                case "report":
+                    options.report = Path.of(value);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown option '" + name + "'");
+            }
+        }
+        return options;
+    }
+
+    /**
+     * Operations not listed keep their default weight, a weight of 0 disables an operation.
+     */
+    private void parseMix(String mix) {
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.split(":");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Invalid mix entry '" + entry + "', expected operation:weight");
+            }
+            weights.put(Operation.fromName(parts[0].trim()), Integer.valueOf(parts[1].trim()));
+        }
+    }
+
+    String getUrl() {
+        return url;
+    }
+
+    String getUsername() {
+        return username;
+    }
+
+    String getPassword() {
+        return password;
+    }
+
+    int getScale() {
+        return scale;
+    }
+
+    int getCompetencesPerEmployee() {
+        return competencesPerEmployee;
+    }
+
+    int getThreads() {
+        return threads;
+    }
+
+    Duration getWarmup() {
+        return warmup;
+    }
+
+    Duration getDuration() {
+        return duration;
+    }
+
+    Map<Operation, Integer> getWeights() {
+        return weights;
+    }
+
+    Path getReport() {
+        return report;
+    }
+}
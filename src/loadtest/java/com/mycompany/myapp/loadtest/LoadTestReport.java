@@ -0,0 +1,131 @@
+package com.mycompany.myapp.loadtest;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Throughput, error count and latency percentiles of every operation, and of all of them.
+ */
+final class LoadTestReport {
+
+    private static final String ALL = "all";
+
+    private final Duration duration;
+
+    private final Map<Operation, LatencyRecorder> recorders = new EnumMap<>(Operation.class);
+
+    LoadTestReport(Duration duration) {
+        this.duration = duration;
+    }
+
+    void add(Map<Operation, LatencyRecorder> clientRecorders) {
+        clientRecorders.forEach((operation, recorder) -> recorders.computeIfAbsent(operation, key -> new LatencyRecorder()).merge(recorder));
+    }
+
+    void print(PrintStream out) {
+        out.printf("%-22s %10s %8s %10s %10s %10s %10s %10s%n", "operation", "requests", "errors", "req/s", "p50 (ms)", "p95 (ms)", "p99 (ms)", "max (ms)");
+        for (Line line : lines()) {
+            out.printf(
+                Locale.ROOT,
+                "%-22s %10d %8d %10.1f %10.2f %10.2f %10.2f %10.2f%n",
+                line.name,
+                line.requests,
+                line.errors,
+                line.throughput,
+                line.p50,
+                line.p95,
+                line.p99,
+                line.max
+            );
+        }
+    }
+
+    void writeCsv(Path file) throws IOException {
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        try (PrintWriter out = new PrintWriter(Files.newBufferedWriter(file, StandardCharsets.UTF_8))) {
+            out.println("operation,requests,errors,requests_per_second,p50_ms,p95_ms,p99_ms,max_ms");
+            for (Line line : lines()) {
+                out.printf(
+                    Locale.ROOT,
+                    "%s,%d,%d,%.1f,%.3f,%.3f,%.3f,%.3f%n",
+                    line.name,
+                    line.requests,
+                    line.errors,
+                    line.throughput,
+                    line.p50,
+                    line.p95,
+                    line.p99,
+                    line.max
+                );
+            }
+        }
+    }
+
+    private Line[] lines() {
+        Line[] lines = new Line[recorders.size() + 1];
+        LatencyRecorder all = new LatencyRecorder();
+        int i = 0;
+        for (Map.Entry<Operation, LatencyRecorder> recorder : recorders.entrySet()) {
+            lines[i++] = new Line(recorder.getKey().getName(), recorder.getValue());
+            all.merge(recorder.getValue());
+        }
+        lines[i] = new Line(ALL, all);
+        return lines;
+    }
+
+    private final class Line {
+
+        private final String name;
+
+        private final int requests;
+
+        private final long errors;
+
+        private final double throughput;
+
+        private final double p50;
+
+        private final double p95;
+
+        private final double p99;
+
+        private final double max;
+
+        private Line(String name, LatencyRecorder recorder) {
+            long[] latencies = recorder.sortedLatencies();
+            this.name = name;
+            this.requests = latencies.length;
+            this.errors = recorder.getErrors();
+            this.throughput = requests / (duration.toMillis() / 1000.0);
+            this.p50 = percentile(latencies, 0.50);
+            this.p95 = percentile(latencies, 0.95);
+            this.p99 = percentile(latencies, 0.99);
+            this.max = latencies.length == 0 ? 0 : toMillis(latencies[latencies.length - 1]);
+        }
+    }
+
+    /**
+     * Nearest-rank percentile, in milliseconds.
+     */
+    private static double percentile(long[] sortedLatencies, double percentile) {
+        if (sortedLatencies.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(percentile * sortedLatencies.length);
+        return toMillis(sortedLatencies[Math.max(rank, 1) - 1]);
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
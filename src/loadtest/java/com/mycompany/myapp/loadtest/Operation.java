@@ -0,0 +1,136 @@
+package com.mycompany.myapp.loadtest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.mycompany.myapp.loadtest.ApiClient.Request;
+import java.util.Random;
+
+/**
+ * Operations of the load-test workload, with their default weight in the mix.
+ * <p>
+ * {@code GET /api/competences} is left out: it is not paginated, and returns the whole table.
+ */
+enum Operation {
+    LIST_EMPLOYEES(
+        "list-employees",
+        15,
+        (data, random, objectMapper) ->
+            Request.get("/api/employees?page=" + random.nextInt(pages(data)) + "&size=" + Operation.PAGE_SIZE + "&sort=id,asc")
+    ),
+    LIST_EMPLOYEES_AFTER(
+        "list-employees-after",
+        10,
+        (data, random, objectMapper) -> Request.get("/api/employees?after=" + pick(data.getEmployeeIds(), random) + "&size=" + Operation.PAGE_SIZE)
+    ),
+    GET_EMPLOYEE(
+        "get-employee",
+        25,
+        (data, random, objectMapper) -> Request.get("/api/employees/" + pick(data.getEmployeeIds(), random) + "?include=competences")
+    ),
+    GET_COMPETENCE("get-competence", 15, (data, random, objectMapper) -> Request.get("/api/competences/" + pick(data.getCompetenceIds(), random))),
+    LIST_CATEGORIES("list-categories", 10, (data, random, objectMapper) -> Request.get("/api/categories")),
+    GET_ACCOUNT("get-account", 5, (data, random, objectMapper) -> Request.get("/api/account")),
+    AUTHENTICATE(
+        "authenticate",
+        1,
+        (data, random, objectMapper) ->
+            Request.post(
+                "/api/authenticate",
+                "application/json",
+                objectMapper.writeValueAsString(objectMapper.createObjectNode().put("username", "user").put("password", "user"))
+            )
+    ),
+    CREATE_EMPLOYEE(
+        "create-employee",
+        4,
+        (data, random, objectMapper) -> {
+            ObjectNode employee = objectMapper
+                .createObjectNode()
+                .put("name", "Load test " + random.nextInt(1_000_000))
+                .put("firstName", "Load")
+                .put("address", random.nextInt(1000) + " test street");
+            return Request.post("/api/employees", "application/json", objectMapper.writeValueAsString(employee));
+        }
+    ),
+    UPDATE_EMPLOYEE(
+        "update-employee",
+        5,
+        (data, random, objectMapper) -> {
+            long id = pick(data.getEmployeeIds(), random);
+            ObjectNode employee = objectMapper.createObjectNode().put("id", id).put("address", random.nextInt(1000) + " updated street");
+            return Request.patch("/api/employees/" + id, objectMapper.writeValueAsString(employee));
+        }
+    ),
+    CREATE_COMPETENCE(
+        "create-competence",
+        5,
+        (data, random, objectMapper) -> {
+            ObjectNode competence = objectMapper.createObjectNode().put("name", "Load test " + random.nextInt(100)).put("level", level(random));
+            competence.putObject("employee").put("id", pick(data.getEmployeeIds(), random));
+            competence.putObject("category").put("id", pick(data.getCategoryIds(), random));
+            return Request.post("/api/competences", "application/json", objectMapper.writeValueAsString(competence));
+        }
+    ),
+    UPDATE_COMPETENCE(
+        "update-competence",
+        5,
+        (data, random, objectMapper) -> {
+            long id = pick(data.getCompetenceIds(), random);
+            ObjectNode competence = objectMapper.createObjectNode().put("id", id).put("level", level(random));
+            return Request.patch("/api/competences/" + id, objectMapper.writeValueAsString(competence));
+        }
+    );
+
+    private static final int PAGE_SIZE = 20;
+
+    private final String name;
+
+    private final int defaultWeight;
+
+    private final RequestFactory requestFactory;
+
+    Operation(String name, int defaultWeight, RequestFactory requestFactory) {
+        this.name = name;
+        this.defaultWeight = defaultWeight;
+        this.requestFactory = requestFactory;
+    }
+
+    static Operation fromName(String name) {
+        for (Operation operation : values()) {
+            if (operation.name.equals(name)) {
+                return operation;
+            }
+        }
+        throw new IllegalArgumentException("Unknown operation '" + name + "'");
+    }
+
+    String getName() {
+        return name;
+    }
+
+    int getDefaultWeight() {
+        return defaultWeight;
+    }
+
+    Request request(LoadTestData data, Random random, ObjectMapper objectMapper) throws JsonProcessingException {
+        return requestFactory.create(data, random, objectMapper);
+    }
+
+    private static long pick(long[] ids, Random random) {
+        return ids[random.nextInt(ids.length)];
+    }
+
+    private static int pages(LoadTestData data) {
+        return Math.max(1, data.getEmployeeIds().length / PAGE_SIZE);
+    }
+
+    private static int level(Random random) {
+        return random.nextInt(5) + 1;
+    }
+
+    @FunctionalInterface
+    private interface RequestFactory {
+        Request create(LoadTestData data, Random random, ObjectMapper objectMapper) throws JsonProcessingException;
+    }
+}
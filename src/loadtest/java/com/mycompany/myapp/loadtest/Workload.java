@@ -0,0 +1,111 @@
+package com.mycompany.myapp.loadtest;
+
+import com.mycompany.myapp.loadtest.ApiClient.Request;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Mixed workload: every client sends requests back to back, picking each operation at random according to its weight.
+ * Latencies are recorded once the warmup is over, a response with a 4xx or 5xx status or a failed request counting as an error.
+ */
+final class Workload {
+
+    private final ApiClient client;
+
+    private final LoadTestData data;
+
+    private final LoadTestOptions options;
+
+    private final Operation[] operations;
+
+    private final int[] cumulativeWeights;
+
+    Workload(ApiClient client, LoadTestData data, LoadTestOptions options) {
+        this.client = client;
+        this.data = data;
+        this.options = options;
+        List<Operation> weighted = new ArrayList<>();
+        List<Integer> cumulative = new ArrayList<>();
+        int total = 0;
+        for (Map.Entry<Operation, Integer> weight : options.getWeights().entrySet()) {
+            if (weight.getValue() > 0) {
+                total += weight.getValue();
+                weighted.add(weight.getKey());
+                cumulative.add(total);
+            }
+        }
+        if (weighted.isEmpty()) {
+            throw new IllegalArgumentException("All the operations have a weight of 0");
+        }
+        this.operations = weighted.toArray(new Operation[0]);
+        this.cumulativeWeights = cumulative.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    LoadTestReport run() throws InterruptedException {
+        long startTime = System.nanoTime();
+        long measurementStartTime = startTime + options.getWarmup().toNanos();
+        long endTime = measurementStartTime + options.getDuration().toNanos();
+        ExecutorService executor = Executors.newFixedThreadPool(options.getThreads());
+        try {
+            List<Future<Map<Operation, LatencyRecorder>>> clients = new ArrayList<>();
+            for (int i = 0; i < options.getThreads(); i++) {
+                clients.add(executor.submit(() -> runClient(measurementStartTime, endTime)));
+            }
+            LoadTestReport report = new LoadTestReport(options.getDuration());
+            for (Future<Map<Operation, LatencyRecorder>> recorders : clients) {
+                report.add(recorders.get());
+            }
+            return report;
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("A load-test client failed", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private Map<Operation, LatencyRecorder> runClient(long measurementStartTime, long endTime) throws IOException {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Map<Operation, LatencyRecorder> recorders = new EnumMap<>(Operation.class);
+        for (Operation operation : operations) {
+            recorders.put(operation, new LatencyRecorder());
+        }
+        long now = System.nanoTime();
+        while (now < endTime && !Thread.currentThread().isInterrupted()) {
+            Operation operation = pick(random);
+            Request request = operation.request(data, random, client.getObjectMapper());
+            boolean error;
+            try {
+                error = client.sendDiscarding(request) >= 400;
+            } catch (IOException e) {
+                error = true;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            long responseTime = System.nanoTime();
+            if (now >= measurementStartTime && responseTime <= endTime) {
+                recorders.get(operation).record(responseTime - now, error);
+            }
+            now = responseTime;
+        }
+        return recorders;
+    }
+
+    private Operation pick(ThreadLocalRandom random) {
+        int value = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (value < cumulativeWeights[i]) {
+                return operations[i];
+            }
+        }
+        return operations[operations.length - 1];
+    }
+}
@@ -1,5 +1,8 @@
 package com.mycompany.myapp.config;
 
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -9,4 +12,344 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
  * See {@link tech.jhipster.config.JHipsterProperties} for a good example.
  */
 @ConfigurationProperties(prefix = "application", ignoreUnknownFields = false)
-public class ApplicationProperties {}
+public class ApplicationProperties {
+
+    private final Cache cache = new Cache();
+
+    private final Search search = new Search();
+
+    private final Replica replica = new Replica();
+
+    private final Outbox outbox = new Outbox();
+
+    private final ChangeFeed changeFeed = new ChangeFeed();
+
+    public Cache getCache() {
+        return cache;
+    }
+
+    public Search getSearch() {
+        return search;
+    }
+
+    public Replica getReplica() {
+        return replica;
+    }
+
+    public Outbox getOutbox() {
+        return outbox;
+    }
+
+    public ChangeFeed getChangeFeed() {
+        return changeFeed;
+    }
+
+    public static class Cache {
+
+        /**
+         * Storage tiers of the caches, by cache name. Caches without an entry, and unset values, fall back to
+         * {@code jhipster.cache.ehcache.max-entries} and {@code jhipster.cache.ehcache.time-to-live-seconds}.
+         */
+        private final Map<String, Region> regions = new HashMap<>();
+
+        public Map<String, Region> getRegions() {
+            return regions;
+        }
+    }
+
+    public static class Search {
+
+        /**
+         * Number of threads loading the entities when the full-text indexes are rebuilt.
+         */
+        private int massIndexingThreads = 4;
+
+        public int getMassIndexingThreads() {
+            return massIndexingThreads;
+        }
+
+        public void setMassIndexingThreads(int massIndexingThreads) {
+            this.massIndexingThreads = massIndexingThreads;
+        }
+    }
+
+    /**
+     * Read-only replica of the database, used by the read-only transactions when {@code url} is set.
+     */
+    public static class Replica {
+
+        private String url;
+
+        /**
+         * Defaults to {@code spring.datasource.username}.
+         */
+        private String username;
+
+        /**
+         * Defaults to {@code spring.datasource.password}.
+         */
+        private String password;
+
+        private int maximumPoolSize = 10;
+
+        /**
+         * Maximum wait for a replica connection, before the read falls back to the primary.
+         */
+        private Duration connectionTimeout = Duration.ofSeconds(2);
+
+        /**
+         * How long the replica is skipped after a connection failure.
+         */
+        private Duration retryInterval = Duration.ofSeconds(30);
+
+        /**
+         * Query returning the replication lag of the replica in seconds, no lag guard when unset.
+         */
+        private String lagQuery;
+
+        private Duration lagCheckInterval = Duration.ofSeconds(1);
+
+        /**
+         * Replication lag above which reads go to the primary.
+         */
+        private Duration maxLag = Duration.ofSeconds(5);
+
+        public String getUrl() {
+            return url;
+        }
+
+        public void setUrl(String url) {
+            this.url = url;
+        }
+
+        public String getUsername() {
+            return username;
+        }
+
+        public void setUsername(String username) {
+            this.username = username;
+        }
+
+        public String getPassword() {
+            return password;
+        }
+
+        public void setPassword(String password) {
+            this.password = password;
+        }
+
+        public int getMaximumPoolSize() {
+            return maximumPoolSize;
+        }
+
+        public void setMaximumPoolSize(int maximumPoolSize) {
+            this.maximumPoolSize = maximumPoolSize;
+        }
+
+        public Duration getConnectionTimeout() {
+            return connectionTimeout;
+        }
+
+        public void setConnectionTimeout(Duration connectionTimeout) {
+            this.connectionTimeout = connectionTimeout;
+        }
+
+        public Duration getRetryInterval() {
+            return retryInterval;
+        }
+
+        public void setRetryInterval(Duration retryInterval) {
+            this.retryInterval = retryInterval;
+        }
+
+        public String getLagQuery() {
+            return lagQuery;
+        }
+
+        public void setLagQuery(String lagQuery) {
+            this.lagQuery = lagQuery;
+        }
+
+        public Duration getLagCheckInterval() {
+            return lagCheckInterval;
+        }
+
+        public void setLagCheckInterval(Duration lagCheckInterval) {
+            this.lagCheckInterval = lagCheckInterval;
+        }
+
+        public Duration getMaxLag() {
+            return maxLag;
+        }
+
+        public void setMaxLag(Duration maxLag) {
+            this.maxLag = maxLag;
+        }
+    }
+
+    /**
+     * Outbox of the entity change events, and its relay to a publisher.
+     */
+    public static class Outbox {
+
+        /**
+         * Publisher of the events, {@code memory} or {@code file}; the events are not relayed when unset.
+         */
+        private String publisher;
+
+        /**
+         * File the {@code file} publisher appends the events to, one JSON document per line.
+         */
+        private String file = "outbox-events.ndjson";
+
+        /**
+         * Maximum number of events published at once.
+         */
+        private int batchSize = 100;
+
+        private Duration relayInterval = Duration.ofSeconds(1);
+
+        public String getPublisher() {
+            return publisher;
+        }
+
+        public void setPublisher(String publisher) {
+            this.publisher = publisher;
+        }
+
+        public String getFile() {
+            return file;
+        }
+
+        public void setFile(String file) {
+            this.file = file;
+        }
+
+        public int getBatchSize() {
+            return batchSize;
+        }
+
+        public void setBatchSize(int batchSize) {
+            this.batchSize = batchSize;
+        }
+
+        public Duration getRelayInterval() {
+            return relayInterval;
+        }
+
+        public void setRelayInterval(Duration relayInterval) {
+            this.relayInterval = relayInterval;
+        }
+    }
+
+    /**
+     * Server-sent events stream of the entity changes.
+     */
+    public static class ChangeFeed {
+
+        /**
+         * Number of changes buffered for a subscriber that is not keeping up, before its buffer is dropped.
+         */
+        private int bufferSize = 256;
+
+        private int maxSubscribers = 10000;
+
+        /**
+         * Number of threads sending the changes to the subscribers.
+         */
+        private int senderThreads = 4;
+
+        /**
+         * Duration of a stream, after which the client reconnects.
+         */
+        private Duration timeout = Duration.ofMinutes(30);
+
+        /**
+         * ISO-8601 duration between two heartbeats of idle streams, as it is also read by @Scheduled.
+         */
+        private Duration heartbeatInterval = Duration.ofSeconds(30);
+
+        public int getBufferSize() {
+            return bufferSize;
+        }
+
+        public void setBufferSize(int bufferSize) {
+            this.bufferSize = bufferSize;
+        }
+
+        public int getMaxSubscribers() {
+            return maxSubscribers;
+        }
+
+        public void setMaxSubscribers(int maxSubscribers) {
+            this.maxSubscribers = maxSubscribers;
+        }
+
+        public int getSenderThreads() {
+            return senderThreads;
+        }
+
+        public void setSenderThreads(int senderThreads) {
+            this.senderThreads = senderThreads;
+        }
+
+        public Duration getTimeout() {
+            return timeout;
+        }
+
+        public void setTimeout(Duration timeout) {
+            this.timeout = timeout;
+        }
+
+        public Duration getHeartbeatInterval() {
+            return heartbeatInterval;
+        }
+
+        public void setHeartbeatInterval(Duration heartbeatInterval) {
+            this.heartbeatInterval = heartbeatInterval;
+        }
+    }
+
+    public static class Region {
+
+        private Long heapEntries;
+
+        private Long offHeapMb;
+
+        private Long diskMb;
+
+        private Long timeToLiveSeconds;
+
+        public Long getHeapEntries() {
+            return heapEntries;
+        }
+
+        public void setHeapEntries(Long heapEntries) {
+            this.heapEntries = heapEntries;
+        }
+
+        public Long getOffHeapMb() {
+            return offHeapMb;
+        }
+
+        public void setOffHeapMb(Long offHeapMb) {
+            this.offHeapMb = offHeapMb;
+        }
+
+        public Long getDiskMb() {
+            return diskMb;
+        }
+
+        public void setDiskMb(Long diskMb) {
+            this.diskMb = diskMb;
+        }
+
+        public Long getTimeToLiveSeconds() {
+            return timeToLiveSeconds;
+        }
+
+        public void setTimeToLiveSeconds(Long timeToLiveSeconds) {
+            this.timeToLiveSeconds = timeToLiveSeconds;
+        }
+    }
+}
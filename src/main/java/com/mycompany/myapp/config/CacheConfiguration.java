@@ -1,10 +1,26 @@
 package com.mycompany.myapp.config;
 
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.BaseUnits;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.lang.management.ManagementFactory;
 import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.MalformedObjectNameException;
+import javax.management.ObjectName;
 import org.ehcache.config.builders.*;
+import org.ehcache.config.units.MemoryUnit;
+import org.ehcache.impl.serialization.PlainJavaSerializer;
 import org.ehcache.jsr107.Eh107Configuration;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.cache.JCacheManagerCustomizer;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
 import org.springframework.boot.info.BuildProperties;
 import org.springframework.boot.info.GitProperties;
 import org.springframework.cache.annotation.EnableCaching;
@@ -13,24 +29,32 @@ import org.springframework.context.annotation.*;
 import tech.jhipster.config.JHipsterProperties;
 import tech.jhipster.config.cache.PrefixedKeyGenerator;
 
+/**
+ * Ehcache configuration, for the Spring caches and the Hibernate second-level cache.
+ * <p>
+ * Every cache is stored on heap, and can be given off-heap and disk tiers through {@code application.cache.regions}:
+ * entries stored in those tiers are kept out of the Java heap, and are serialized with Java serialization.
+ * The disk tier is stored in the persistence directory configured in {@code config/ehcache.xml}.
+ */
 @Configuration
 @EnableCaching
 public class CacheConfiguration {
 
+    private final Logger log = LoggerFactory.getLogger(CacheConfiguration.class);
+
     private GitProperties gitProperties;
     private BuildProperties buildProperties;
-    private final javax.cache.configuration.Configuration<Object, Object> jcacheConfiguration;
-
-    public CacheConfiguration(JHipsterProperties jHipsterProperties) {
-        JHipsterProperties.Cache.Ehcache ehcache = jHipsterProperties.getCache().getEhcache();
-
-        jcacheConfiguration =
-            Eh107Configuration.fromEhcacheCacheConfiguration(
-                CacheConfigurationBuilder
-                    .newCacheConfigurationBuilder(Object.class, Object.class, ResourcePoolsBuilder.heap(ehcache.getMaxEntries()))
-                    .withExpiry(ExpiryPolicyBuilder.timeToLiveExpiration(Duration.ofSeconds(ehcache.getTimeToLiveSeconds())))
-                    .build()
-            );
+    private final JHipsterProperties.Cache.Ehcache ehcache;
+    private final Map<String, ApplicationProperties.Region> regions;
+
+    public CacheConfiguration(JHipsterProperties jHipsterProperties, ApplicationProperties applicationProperties) {
+        this.ehcache = jHipsterProperties.getCache().getEhcache();
+        this.regions = applicationProperties.getCache().getRegions();
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer hibernatePropertiesCustomizer(javax.cache.CacheManager cacheManager) {
+        return hibernateProperties -> hibernateProperties.put(ConfigSettings.CACHE_MANAGER, cacheManager);
     }
 
     @Bean
@@ -38,6 +62,11 @@ public class CacheConfiguration {
         return cm -> {
             createCache(cm, com.mycompany.myapp.repository.UserRepository.USERS_BY_LOGIN_CACHE);
             createCache(cm, com.mycompany.myapp.repository.UserRepository.USERS_BY_EMAIL_CACHE);
+            createCache(cm, com.mycompany.myapp.domain.Employee.class.getName());
+            createCache(cm, com.mycompany.myapp.domain.Employee.class.getName() + ".competences");
+            createCache(cm, com.mycompany.myapp.domain.Category.class.getName());
+            createCache(cm, com.mycompany.myapp.domain.Category.class.getName() + ".competences");
+            createCache(cm, com.mycompany.myapp.domain.Competence.class.getName());
             // jhipster-needle-ehcache-add-entry
         };
     }
@@ -47,8 +76,81 @@ public class CacheConfiguration {
         if (cache != null) {
             cache.clear();
         } else {
-            cm.createCache(cacheName, jcacheConfiguration);
+            cm.createCache(cacheName, cacheConfiguration(regions.getOrDefault(cacheName, new ApplicationProperties.Region())));
+        }
+        // feeds the hit, miss, put, eviction and removal meters that Spring Boot binds to every cache
+        cm.enableStatistics(cacheName, true);
+    }
+
+    /**
+     * Average get latency of every cache, tagged with the cache name like the other {@code cache.*} meters.
+     * It is read from the JSR-107 statistics MBean of the cache, as Micrometer does for the other statistics.
+     */
+    @Bean
+    public MeterBinder cacheGetLatencyMeterBinder(javax.cache.CacheManager cacheManager) {
+        return registry -> {
+            MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+            String cacheManagerName = sanitizeObjectNameValue(cacheManager.getURI().toString());
+            for (String cacheName : cacheManager.getCacheNames()) {
+                ObjectName objectName;
+                try {
+                    objectName =
+                        new ObjectName(
+                            "javax.cache:type=CacheStatistics,CacheManager=" +
+                            cacheManagerName +
+                            ",Cache=" +
+                            sanitizeObjectNameValue(cacheName)
+                        );
+                } catch (MalformedObjectNameException e) {
+                    log.warn("Cannot monitor the get latency of cache {}: {}", cacheName, e.getMessage());
+                    continue;
+                }
+                Gauge
+                    .builder("cache.gets.latency", mBeanServer, server -> averageGetTimeInSeconds(server, objectName))
+                    .description("The average duration of the gets of the cache")
+                    .baseUnit(BaseUnits.SECONDS)
+                    .tag("cache", cacheName)
+                    .register(registry);
+            }
+        };
+    }
+
+    private static double averageGetTimeInSeconds(MBeanServer mBeanServer, ObjectName objectName) {
+        try {
+            // JSR-107 reports the average get time in microseconds
+            return ((Number) mBeanServer.getAttribute(objectName, "AverageGetTime")).doubleValue() / 1_000_000;
+        } catch (JMException e) {
+            return Double.NaN;
+        }
+    }
+
+    private static String sanitizeObjectNameValue(String value) {
+        return value.replaceAll("[,:=\\n]", ".");
+    }
+
+    private javax.cache.configuration.Configuration<Object, Object> cacheConfiguration(ApplicationProperties.Region region) {
+        long heapEntries = Optional.ofNullable(region.getHeapEntries()).orElse(ehcache.getMaxEntries());
+        long timeToLiveSeconds = Optional.ofNullable(region.getTimeToLiveSeconds()).orElse((long) ehcache.getTimeToLiveSeconds());
+        long offHeapMb = Optional.ofNullable(region.getOffHeapMb()).orElse(0L);
+        long diskMb = Optional.ofNullable(region.getDiskMb()).orElse(0L);
+
+        ResourcePoolsBuilder resourcePools = ResourcePoolsBuilder.heap(heapEntries);
+        if (offHeapMb > 0) {
+            resourcePools = resourcePools.offheap(offHeapMb, MemoryUnit.MB);
+        }
+        if (diskMb > 0) {
+            resourcePools = resourcePools.disk(diskMb, MemoryUnit.MB, false);
+        }
+        CacheConfigurationBuilder<Object, Object> builder = CacheConfigurationBuilder
+            .newCacheConfigurationBuilder(Object.class, Object.class, resourcePools)
+            .withExpiry(ExpiryPolicyBuilder.timeToLiveExpiration(Duration.ofSeconds(timeToLiveSeconds)));
+        if (offHeapMb > 0 || diskMb > 0) {
+            // users, domain entities and Hibernate cache entries are all Serializable
+            ClassLoader classLoader = getClass().getClassLoader();
+            builder =
+                builder.withKeySerializer(new PlainJavaSerializer<>(classLoader)).withValueSerializer(new PlainJavaSerializer<>(classLoader));
         }
+        return Eh107Configuration.fromEhcacheCacheConfiguration(builder.build());
     }
 
     @Autowired(required = false)
@@ -0,0 +1,65 @@
+package com.mycompany.myapp.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import java.util.Optional;
+import javax.sql.DataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.util.StringUtils;
+
+/**
+ * Data sources of a primary database and of its read-only replica, when {@code application.replica.url} is set:
+ * {@code @Transactional(readOnly = true)} work uses the replica, everything else the primary.
+ * <p>
+ * The primary pool is configured with {@code spring.datasource} as usual; the replica pool uses the same driver, and
+ * the credentials of the primary unless {@code application.replica} overrides them.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "application.replica", name = "url")
+public class ReplicaDataSourceConfiguration {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        if (StringUtils.hasText(properties.getName())) {
+            dataSource.setPoolName(properties.getName());
+        }
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(
+        HikariDataSource primaryDataSource,
+        DataSourceProperties properties,
+        ApplicationProperties applicationProperties
+    ) {
+        ApplicationProperties.Replica replica = applicationProperties.getReplica();
+        HikariDataSource replicaDataSource = properties
+            .initializeDataSourceBuilder()
+            .type(HikariDataSource.class)
+            .url(replica.getUrl())
+            .username(Optional.ofNullable(replica.getUsername()).orElse(properties.determineUsername()))
+            .password(Optional.ofNullable(replica.getPassword()).orElse(properties.determinePassword()))
+            .build();
+        replicaDataSource.setPoolName("Hikari-replica");
+        replicaDataSource.setMaximumPoolSize(replica.getMaximumPoolSize());
+        replicaDataSource.setConnectionTimeout(replica.getConnectionTimeout().toMillis());
+        replicaDataSource.setAutoCommit(primaryDataSource.isAutoCommit());
+        replicaDataSource.setReadOnly(true);
+        // start even if the replica is down, reads then go to the primary
+        replicaDataSource.setInitializationFailTimeout(-1);
+        return new ReplicaRoutingDataSource(primaryDataSource, replicaDataSource, replica);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+}
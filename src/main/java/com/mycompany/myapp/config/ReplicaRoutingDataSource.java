@@ -0,0 +1,146 @@
+package com.mycompany.myapp.config;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import javax.sql.DataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Data source giving the connections of read-only transactions from a replica, and all the other connections from
+ * the primary.
+ * <p>
+ * It must be wrapped in a {@link LazyConnectionDataSourceProxy}, as transaction managers get their connection before
+ * flagging the transaction as read-only. Reads go to the primary:
+ * <ul>
+ *     <li>for {@link ApplicationProperties.Replica#getRetryInterval()} after the replica failed to give a connection;</li>
+ *     <li>while the replication lag, measured every {@link ApplicationProperties.Replica#getLagCheckInterval()} with
+ *     {@link ApplicationProperties.Replica#getLagQuery()}, is above {@link ApplicationProperties.Replica#getMaxLag()}.</li>
+ * </ul>
+ */
+public class ReplicaRoutingDataSource extends AbstractDataSource implements Closeable {
+
+    private final Logger log = LoggerFactory.getLogger(ReplicaRoutingDataSource.class);
+
+    private final DataSource primary;
+
+    private final DataSource replica;
+
+    private final Duration retryInterval;
+
+    private final String lagQuery;
+
+    private final Duration maxLag;
+
+    private final ScheduledExecutorService lagChecker;
+
+    private volatile Instant unavailableUntil;
+
+    private volatile boolean lagging;
+
+    /**
+     * @param primary the data source of the primary.
+     * @param replica the data source of the replica, closed with this data source.
+     * @param properties the replica properties, a zero lag check interval disabling the periodic check.
+     */
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica, ApplicationProperties.Replica properties) {
+        this.primary = primary;
+        this.replica = replica;
+        this.retryInterval = properties.getRetryInterval();
+        this.lagQuery = properties.getLagQuery();
+        this.maxLag = properties.getMaxLag();
+        if (lagQuery != null && !properties.getLagCheckInterval().isZero()) {
+            long interval = properties.getLagCheckInterval().toMillis();
+            lagChecker =
+                Executors.newSingleThreadScheduledExecutor(runnable -> {
+                    Thread thread = new Thread(runnable, "replica-lag-check");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+            lagChecker.scheduleWithFixedDelay(this::checkLag, 0, interval, TimeUnit.MILLISECONDS);
+        } else {
+            lagChecker = null;
+        }
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly() && isReplicaUsable()) {
+            try {
+                return replica.getConnection();
+            } catch (SQLException e) {
+                replicaFailed(e);
+            }
+        }
+        return primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return primary.getConnection(username, password);
+    }
+
+    /**
+     * @return {@code true} if read-only transactions currently use the replica.
+     */
+    public boolean isReplicaUsable() {
+        Instant until = unavailableUntil;
+        return !lagging && (until == null || Instant.now().isAfter(until));
+    }
+
+    /**
+     * Measure the replication lag; a successful measure also makes a failed replica usable again.
+     */
+    void checkLag() {
+        try (Connection connection = replica.getConnection(); Statement statement = connection.createStatement()) {
+            double lagSeconds = 0;
+            try (ResultSet resultSet = statement.executeQuery(lagQuery)) {
+                if (resultSet.next()) {
+                    lagSeconds = resultSet.getDouble(1);
+                }
+            }
+            boolean wasLagging = lagging;
+            lagging = lagSeconds * 1000 > maxLag.toMillis();
+            if (lagging && !wasLagging) {
+                log.warn("Replica lag is {} s, reads are sent to the primary until it is under {} s", lagSeconds, maxLag.toSeconds());
+            } else if (!lagging && wasLagging) {
+                log.info("Replica lag is back to {} s, reads are sent to the replica", lagSeconds);
+            }
+            if (unavailableUntil != null) {
+                log.info("Replica is available again");
+                unavailableUntil = null;
+            }
+        } catch (SQLException e) {
+            replicaFailed(e);
+        }
+    }
+
+    private void replicaFailed(SQLException e) {
+        if (isReplicaUsable()) {
+            log.warn("Replica is unavailable, reads are sent to the primary for {} s: {}", retryInterval.toSeconds(), e.getMessage());
+        }
+        unavailableUntil = Instant.now().plus(retryInterval);
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (lagChecker != null) {
+            lagChecker.shutdownNow();
+        }
+        if (replica instanceof Closeable) {
+            ((Closeable) replica).close();
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.mycompany.myapp.config;
+
+import org.apache.lucene.analysis.core.LowerCaseFilterFactory;
+import org.apache.lucene.analysis.miscellaneous.ASCIIFoldingFilterFactory;
+import org.apache.lucene.analysis.standard.StandardTokenizerFactory;
+import org.hibernate.search.backend.lucene.analysis.LuceneAnalysisConfigurationContext;
+import org.hibernate.search.backend.lucene.analysis.LuceneAnalysisConfigurer;
+import org.hibernate.search.engine.backend.analysis.AnalyzerNames;
+
+/**
+ * Analysis of the full-text fields: searches are case-insensitive and ignore accents, so that "jose" matches "José".
+ * <p>
+ * Referenced by {@code hibernate.search.backend.analysis.configurer} in the application configuration.
+ */
+public class SearchAnalysisConfigurer implements LuceneAnalysisConfigurer {
+
+    @Override
+    public void configure(LuceneAnalysisConfigurationContext context) {
+        context
+            .analyzer(AnalyzerNames.DEFAULT)
+            .custom()
+            .tokenizer(StandardTokenizerFactory.class)
+            .tokenFilter(LowerCaseFilterFactory.class)
+            .tokenFilter(ASCIIFoldingFilterFactory.class);
+    }
+}
@@ -0,0 +1,39 @@
+package com.mycompany.myapp.config;
+
+import com.mycompany.myapp.service.FullTextSearchService;
+import java.util.Map;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.boot.actuate.endpoint.web.annotation.WebEndpoint;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@code /management/searchindex} endpoint: {@code GET} gives the state of the last rebuild of the full-text indexes,
+ * {@code POST} starts a rebuild, or answers {@code 409 (Conflict)} if one is already running.
+ */
+@Component
+@WebEndpoint(id = "searchindex")
+public class SearchIndexEndpoint {
+
+    private final FullTextSearchService fullTextSearchService;
+
+    public SearchIndexEndpoint(FullTextSearchService fullTextSearchService) {
+        this.fullTextSearchService = fullTextSearchService;
+    }
+
+    @ReadOperation
+    public Map<String, Object> status() {
+        return fullTextSearchService.getRebuildStatus();
+    }
+
+    @WriteOperation
+    public WebEndpointResponse<Map<String, Object>> rebuild() {
+        boolean started = fullTextSearchService.rebuildIndexes();
+        return new WebEndpointResponse<>(
+            fullTextSearchService.getRebuildStatus(),
+            started ? WebEndpointResponse.STATUS_OK : HttpStatus.CONFLICT.value()
+        );
+    }
+}
@@ -1,16 +1,28 @@
 package com.mycompany.myapp.domain;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import java.io.Serializable;
+import java.time.Instant;
 import java.util.HashSet;
 import java.util.Set;
 import javax.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.FullTextField;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.Indexed;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.IndexedEmbedded;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 /**
  * A Employee.
  */
 @Entity
 @Table(name = "employee")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@EntityListeners(AuditingEntityListener.class)
+@Indexed
 public class Employee implements Serializable {
 
     private static final long serialVersionUID = 1L;
@@ -22,18 +34,34 @@ public class Employee implements Serializable {
     private Long id;
 
     @Column(name = "name")
+    @FullTextField
     private String name;
 
     @Column(name = "first_name")
+    @FullTextField
     private String firstName;
 
     @Column(name = "address")
+    @FullTextField
     private String address;
 
     @OneToMany(mappedBy = "employee")
-    @JsonIgnoreProperties(value = { "category", "employee" }, allowSetters = true)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+    @IndexedEmbedded(includePaths = { "name" })
+    @JsonIgnoreProperties(value = { "employee" }, allowSetters = true)
     private Set<Competence> competences = new HashSet<>();
 
+    // primitive, so that an employee referenced by its id only is not considered transient
+    @Version
+    @Column(name = "version", nullable = false)
+    @JsonIgnore
+    private long version;
+
+    @LastModifiedDate
+    @Column(name = "last_modified_date", nullable = false)
+    @JsonIgnore
+    private Instant lastModifiedDate;
+
     // jhipster-needle-entity-add-field - JHipster will add fields here
 
     public Long getId() {
@@ -119,6 +147,22 @@ public class Employee implements Serializable {
         return this;
     }
 
+    public long getVersion() {
+        return this.version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
+    public Instant getLastModifiedDate() {
+        return this.lastModifiedDate;
+    }
+
+    public void setLastModifiedDate(Instant lastModifiedDate) {
+        this.lastModifiedDate = lastModifiedDate;
+    }
+
     // jhipster-needle-entity-add-getters-setters - JHipster will add getters and setters here
 
     @Override
@@ -1,6 +1,8 @@
 package com.mycompany.myapp.repository;
 
 import com.mycompany.myapp.domain.Competence;
+import java.util.List;
+import java.util.Optional;
 import org.springframework.data.jpa.repository.*;
 import org.springframework.stereotype.Repository;
 
@@ -9,4 +11,12 @@ import org.springframework.stereotype.Repository;
  */
 @SuppressWarnings("unused")
 @Repository
-public interface CompetenceRepository extends JpaRepository<Competence, Long> {}
+public interface CompetenceRepository extends JpaRepository<Competence, Long>, JpaSpecificationExecutor<Competence> {
+    @Override
+    @EntityGraph(attributePaths = { "category", "employee" })
+    List<Competence> findAll();
+
+    @Override
+    @EntityGraph(attributePaths = { "category", "employee" })
+    Optional<Competence> findById(Long id);
+}
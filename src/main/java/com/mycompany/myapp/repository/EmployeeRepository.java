@@ -1,6 +1,9 @@
 package com.mycompany.myapp.repository;
 
 import com.mycompany.myapp.domain.Employee;
+import java.util.stream.Stream;
+import javax.persistence.QueryHint;
+import org.hibernate.jpa.QueryHints;
 import org.springframework.data.jpa.repository.*;
 import org.springframework.stereotype.Repository;
 
@@ -9,4 +12,16 @@ import org.springframework.stereotype.Repository;
  */
 @SuppressWarnings("unused")
 @Repository
-public interface EmployeeRepository extends JpaRepository<Employee, Long> {}
+public interface EmployeeRepository extends JpaRepository<Employee, Long>, JpaSpecificationExecutor<Employee> {
+    /**
+     * Streams every employee with its competences and their categories, ordered by id so that Hibernate can
+     * assemble each employee from consecutive rows. Must be consumed inside a transaction.
+     */
+    @Query(
+        "select employee from Employee employee " +
+        "left join fetch employee.competences competence left join fetch competence.category " +
+        "order by employee.id"
+    )
+    @QueryHints({ @QueryHint(name = QueryHints.HINT_FETCH_SIZE, value = "500"), @QueryHint(name = QueryHints.HINT_READONLY, value = "true") })
+    Stream<Employee> streamAllWithCompetences();
+}
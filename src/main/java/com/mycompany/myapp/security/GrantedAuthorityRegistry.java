@@ -0,0 +1,83 @@
+package com.mycompany.myapp.security;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+/**
+ * Shared, immutable {@link GrantedAuthority} instances.
+ * <p>
+ * Authorities are interned by name, the ones of {@link AuthoritiesConstants} being created up front, and the
+ * authority lists parsed from a comma-separated claim are cached by claim: as there are only a few distinct
+ * combinations of authorities, resolving the authorities of a request does not allocate anything.
+ */
+public final class GrantedAuthorityRegistry {
+
+    /**
+     * Bounds the caches, in case of unexpected authority names or combinations.
+     */
+    private static final int MAX_ENTRIES = 1_000;
+
+    private static final Map<String, GrantedAuthority> AUTHORITIES = new ConcurrentHashMap<>();
+
+    private static final Map<String, List<GrantedAuthority>> AUTHORITIES_BY_CLAIM = new ConcurrentHashMap<>();
+
+    static {
+        of(AuthoritiesConstants.ADMIN);
+        of(AuthoritiesConstants.USER);
+        of(AuthoritiesConstants.ANONYMOUS);
+    }
+
+    private GrantedAuthorityRegistry() {}
+
+    /**
+     * Get the shared authority of the given name.
+     *
+     * @param name the name of the authority.
+     * @return the authority.
+     */
+    public static GrantedAuthority of(String name) {
+        GrantedAuthority authority = AUTHORITIES.get(name);
+        if (authority == null) {
+            authority = new SimpleGrantedAuthority(name);
+            if (AUTHORITIES.size() < MAX_ENTRIES) {
+                GrantedAuthority existing = AUTHORITIES.putIfAbsent(name, authority);
+                if (existing != null) {
+                    authority = existing;
+                }
+            }
+        }
+        return authority;
+    }
+
+    /**
+     * Get the authorities of a comma-separated list of authority names, blank names being ignored.
+     *
+     * @param claim the comma-separated authority names.
+     * @return the unmodifiable list of the authorities.
+     */
+    public static List<GrantedAuthority> fromClaim(String claim) {
+        List<GrantedAuthority> authorities = AUTHORITIES_BY_CLAIM.get(claim);
+        if (authorities == null) {
+            authorities = parse(claim);
+            if (AUTHORITIES_BY_CLAIM.size() < MAX_ENTRIES) {
+                AUTHORITIES_BY_CLAIM.putIfAbsent(claim, authorities);
+            }
+        }
+        return authorities;
+    }
+
+    private static List<GrantedAuthority> parse(String claim) {
+        List<GrantedAuthority> authorities = new ArrayList<>();
+        for (String name : claim.split(",")) {
+            if (!name.trim().isEmpty()) {
+                authorities.add(of(name));
+            }
+        }
+        return Collections.unmodifiableList(authorities);
+    }
+}
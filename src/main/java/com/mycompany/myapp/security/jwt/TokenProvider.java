@@ -1,20 +1,23 @@
 package com.mycompany.myapp.security.jwt;
 
 import com.mycompany.myapp.management.SecurityMetersService;
+import com.mycompany.myapp.security.GrantedAuthorityRegistry;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
 import io.jsonwebtoken.security.SignatureException;
 import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.stereotype.Component;
 import org.springframework.util.ObjectUtils;
@@ -29,6 +32,14 @@ public class TokenProvider {
 
     private static final String INVALID_JWT_TOKEN = "Invalid JWT token.";
 
+    private static final int MAX_CACHED_AUTHENTICATIONS = 10_000;
+
+    /**
+     * Number of unexpired authentications evicted when the cache is full, so that the tokens in use are not all parsed
+     * again at once.
+     */
+    private static final int EVICTED_AUTHENTICATIONS = MAX_CACHED_AUTHENTICATIONS / 10;
+
     private final Key key;
 
     private final JwtParser jwtParser;
@@ -39,6 +50,8 @@ public class TokenProvider {
 
     private final SecurityMetersService securityMetersService;
 
+    private final Map<String, CachedAuthentication> authenticationCache = new ConcurrentHashMap<>();
+
     public TokenProvider(JHipsterProperties jHipsterProperties, SecurityMetersService securityMetersService) {
         byte[] keyBytes;
         String secret = jHipsterProperties.getSecurity().getAuthentication().getJwt().getBase64Secret();
@@ -83,24 +96,43 @@ public class TokenProvider {
     }
 
     public Authentication getAuthentication(String token) {
-        Claims claims = jwtParser.parseClaimsJws(token).getBody();
-
-        Collection<? extends GrantedAuthority> authorities = Arrays
-            .stream(claims.get(AUTHORITIES_KEY).toString().split(","))
-            .filter(auth -> !auth.trim().isEmpty())
-            .map(SimpleGrantedAuthority::new)
-            .collect(Collectors.toList());
-
-        User principal = new User(claims.getSubject(), "", authorities);
+        String digest = digest(token);
+        CachedAuthentication cached = getCachedAuthentication(digest);
+        if (cached == null) {
+            cached = cacheAuthentication(digest, jwtParser.parseClaimsJws(token).getBody());
+        }
+        return cached.toAuthentication(token);
+    }
 
-        return new UsernamePasswordAuthenticationToken(principal, token, authorities);
+    /**
+     * Validate the token and build its authentication in a single pass.
+     * <p>
+     * The authentication of a valid token is cached until the token expires, so authenticating the following
+     * requests carrying the same token is a hash lookup instead of a signature verification.
+     *
+     * @param token the JWT token.
+     * @return the authentication of the token, or empty if the token is not valid.
+     */
+    public Optional<Authentication> resolveAuthentication(String token) {
+        String digest = digest(token);
+        CachedAuthentication cached = getCachedAuthentication(digest);
+        if (cached == null) {
+            Claims claims = parseClaims(token);
+            if (claims == null) {
+                return Optional.empty();
+            }
+            cached = cacheAuthentication(digest, claims);
+        }
+        return Optional.of(cached.toAuthentication(token));
     }
 
     public boolean validateToken(String authToken) {
-        try {
-            jwtParser.parseClaimsJws(authToken);
+        return resolveAuthentication(authToken).isPresent();
+    }
 
-            return true;
+    private Claims parseClaims(String authToken) {
+        try {
+            return jwtParser.parseClaimsJws(authToken).getBody();
         } catch (ExpiredJwtException e) {
             this.securityMetersService.trackTokenExpired();
 
@@ -121,6 +153,82 @@ public class TokenProvider {
             log.error("Token validation error {}", e.getMessage());
         }
 
-        return false;
+        return null;
+    }
+
+    private CachedAuthentication getCachedAuthentication(String digest) {
+        CachedAuthentication cached = authenticationCache.get(digest);
+        if (cached != null && cached.expiration <= System.currentTimeMillis()) {
+            // parsing the token again reports it as expired
+            authenticationCache.remove(digest, cached);
+            return null;
+        }
+        return cached;
+    }
+
+    private CachedAuthentication cacheAuthentication(String digest, Claims claims) {
+        Collection<GrantedAuthority> authorities = GrantedAuthorityRegistry.fromClaim(claims.get(AUTHORITIES_KEY).toString());
+
+        User principal = new User(claims.getSubject(), "", authorities);
+        Date expiration = claims.getExpiration();
+        CachedAuthentication cached = new CachedAuthentication(principal, expiration == null ? 0 : expiration.getTime());
+
+        // tokens without an expiration are not cached, as their validity can't be honoured
+        if (expiration != null) {
+            if (authenticationCache.size() >= MAX_CACHED_AUTHENTICATIONS) {
+                long now = System.currentTimeMillis();
+                authenticationCache.values().removeIf(entry -> entry.expiration <= now);
+                if (authenticationCache.size() >= MAX_CACHED_AUTHENTICATIONS) {
+                    evictSoonestExpiring();
+                }
+            }
+            authenticationCache.put(digest, cached);
+        }
+        return cached;
+    }
+
+    /**
+     * Evict the authentications whose tokens expire first, as they are the least likely to be used again.
+     */
+    private void evictSoonestExpiring() {
+        authenticationCache
+            .entrySet()
+            .stream()
+            .sorted(Comparator.comparingLong(entry -> entry.getValue().expiration))
+            .limit(EVICTED_AUTHENTICATIONS)
+            .map(Map.Entry::getKey)
+            .collect(Collectors.toList())
+            .forEach(authenticationCache::remove);
+    }
+
+    /**
+     * Tokens are cached by their SHA-256 digest, so that the cache keys are not usable credentials.
+     */
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static final class CachedAuthentication {
+
+        private final User principal;
+
+        private final long expiration;
+
+        private CachedAuthentication(User principal, long expiration) {
+            this.principal = principal;
+            this.expiration = expiration;
+        }
+
+        /**
+         * A new authentication is built for every request, as authentication objects are mutable.
+         */
+        private Authentication toAuthentication(String token) {
+            return new UsernamePasswordAuthenticationToken(principal, token, principal.getAuthorities());
+        }
     }
 }
@@ -0,0 +1,98 @@
+package com.mycompany.myapp.service;
+
+import com.mycompany.myapp.domain.Category;
+import com.mycompany.myapp.service.dto.CategoryDTO;
+import com.mycompany.myapp.service.dto.VersionDTO;
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import javax.persistence.EntityManager;
+import org.hibernate.Session;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Service for reading {@link Category}s as {@link CategoryDTO}s.
+ * <p>
+ * Categories are loaded by id, so they are served from the second-level cache and the database is only read for their
+ * ids and versions; the transactions are read-only, so the loaded entities are neither dirty checked nor flushed.
+ */
+@Service
+@Transactional(readOnly = true)
+public class CategoryService {
+
+    private final Logger log = LoggerFactory.getLogger(CategoryService.class);
+
+    private final EntityManager entityManager;
+
+    public CategoryService(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * Get all the categories.
+     *
+     * @return the list of entities.
+     */
+    public List<CategoryDTO> findAll() {
+        log.debug("Request to get all Categories");
+        List<Long> ids = entityManager.createQuery("select category.id from Category category", Long.class).getResultList();
+        return entityManager
+            .unwrap(Session.class)
+            .byMultipleIds(Category.class)
+            .multiLoad(ids)
+            .stream()
+            .filter(Objects::nonNull)
+            .map(CategoryService::toDto)
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Get the version of the list of all the categories, with a single aggregate query.
+     *
+     * @return the version.
+     */
+    public VersionDTO findAllVersion() {
+        Object[] row = entityManager
+            .createQuery("select count(category), max(category.lastModifiedDate) from Category category", Object[].class)
+            .getSingleResult();
+        return VersionDTO.ofAll((Long) row[0], (Instant) row[1]);
+    }
+
+    /**
+     * Get the version of a category.
+     *
+     * @param id the id of the entity.
+     * @return the version, or empty if there is no such category.
+     */
+    public Optional<VersionDTO> findVersion(Long id) {
+        return entityManager
+            .createQuery(
+                "select category.version, category.lastModifiedDate from Category category where category.id = :id",
+                Object[].class
+            )
+            .setParameter("id", id)
+            .getResultStream()
+            .findFirst()
+            .map(row -> VersionDTO.of((Long) row[0], (Instant) row[1]));
+    }
+
+    /**
+     * Get one category by id.
+     *
+     * @param id the id of the entity.
+     * @return the entity.
+     */
+    public Optional<CategoryDTO> findOne(Long id) {
+        log.debug("Request to get Category : {}", id);
+        return Optional.ofNullable(entityManager.find(Category.class, id)).map(CategoryService::toDto);
+    }
+
+    private static CategoryDTO toDto(Category category) {
+        return new CategoryDTO(category.getId(), category.getName());
+    }
+}
@@ -0,0 +1,179 @@
+package com.mycompany.myapp.service;
+
+import com.mycompany.myapp.domain.Category;
+import com.mycompany.myapp.repository.CategoryRepository;
+import com.mycompany.myapp.service.dto.CategoryStatisticsDTO;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Service computing the skill matrix of the {@link Category categories}.
+ * <p>
+ * The aggregates of every category (competence count, level histogram and competences per employee) are maintained
+ * incrementally by the {@link CompetenceIndexService}, in {@code O(log levels)} per write, so reading the statistics of
+ * all the categories costs {@code O(categories × distinct levels)} whatever the number of competences.
+ * Every competence with a category is aggregated, including the competences without an employee or a name.
+ */
+@Service
+public class CategoryStatisticsService implements CompetenceIndex {
+
+    private final Logger log = LoggerFactory.getLogger(CategoryStatisticsService.class);
+
+    private final CategoryRepository categoryRepository;
+
+    /**
+     * Aggregates by category id.
+     */
+    private final Map<Long, Aggregate> aggregates = new ConcurrentHashMap<>();
+
+    /**
+     * Aggregated competences by id, to find their previous category when they are updated or deleted.
+     */
+    private final Map<Long, Item> competences = new HashMap<>();
+
+    public CategoryStatisticsService(CategoryRepository categoryRepository) {
+        this.categoryRepository = categoryRepository;
+    }
+
+    @Override
+    public boolean accepts(Entry entry) {
+        return entry.getCategoryId() != null;
+    }
+
+    @Override
+    public void clear() {
+        competences.clear();
+        aggregates.clear();
+    }
+
+    @Override
+    public void put(Entry entry) {
+        remove(entry.getCompetenceId());
+        Item item = new Item(entry.getCategoryId(), entry.getEmployeeId(), entry.getLevel());
+        competences.put(entry.getCompetenceId(), item);
+        aggregates.computeIfAbsent(item.categoryId, key -> new Aggregate()).add(item);
+    }
+
+    @Override
+    public void remove(long competenceId) {
+        Item previous = competences.remove(competenceId);
+        if (previous != null) {
+            aggregates.get(previous.categoryId).remove(previous);
+        }
+    }
+
+    /**
+     * Get the statistics of all the categories.
+     *
+     * @return the statistics of every category, categories without competences included.
+     */
+    @Transactional(readOnly = true)
+    public List<CategoryStatisticsDTO> findAll() {
+        log.debug("Request to get the statistics of all Categories");
+        return categoryRepository.findAll().stream().map(this::statistics).collect(Collectors.toList());
+    }
+
+    private CategoryStatisticsDTO statistics(Category category) {
+        CategoryStatisticsDTO statistics = new CategoryStatisticsDTO();
+        statistics.setCategoryId(category.getId());
+        statistics.setCategoryName(category.getName());
+        Aggregate aggregate = aggregates.get(category.getId());
+        if (aggregate != null) {
+            aggregate.fill(statistics);
+        }
+        return statistics;
+    }
+
+    private static final class Item {
+
+        private final long categoryId;
+
+        private final Long employeeId;
+
+        private final Integer level;
+
+        private Item(long categoryId, Long employeeId, Integer level) {
+            this.categoryId = categoryId;
+            this.employeeId = employeeId;
+            this.level = level;
+        }
+    }
+
+    /**
+     * The aggregates of one category.
+     */
+    private static final class Aggregate {
+
+        private long competences;
+
+        private long levelSum;
+
+        /**
+         * Number of competences by level.
+         */
+        private final TreeMap<Integer, Long> levels = new TreeMap<>();
+
+        /**
+         * Number of competences by employee.
+         */
+        private final Map<Long, Integer> employees = new HashMap<>();
+
+        synchronized void add(Item item) {
+            competences++;
+            if (item.employeeId != null) {
+                employees.merge(item.employeeId, 1, Integer::sum);
+            }
+            if (item.level != null) {
+                levelSum += item.level;
+                levels.merge(item.level, 1L, Long::sum);
+            }
+        }
+
+        synchronized void remove(Item item) {
+            competences--;
+            if (item.employeeId != null) {
+                employees.computeIfPresent(item.employeeId, (employeeId, count) -> count == 1 ? null : count - 1);
+            }
+            if (item.level != null) {
+                levelSum -= item.level;
+                levels.computeIfPresent(item.level, (level, count) -> count == 1 ? null : count - 1);
+            }
+        }
+
+        synchronized void fill(CategoryStatisticsDTO statistics) {
+            statistics.setCompetences(competences);
+            statistics.setEmployees(employees.size());
+            long leveled = levels.values().stream().mapToLong(Long::longValue).sum();
+            if (leveled > 0) {
+                statistics.setAverageLevel((double) levelSum / leveled);
+                statistics.setMinLevel(levels.firstKey());
+                statistics.setMedianLevel(percentile(leveled, 0.5));
+                statistics.setPercentile90Level(percentile(leveled, 0.9));
+                statistics.setMaxLevel(levels.lastKey());
+            }
+        }
+
+        /**
+         * Nearest-rank percentile of the levels.
+         */
+        private Integer percentile(long leveled, double percentile) {
+            long rank = Math.max(1, (long) Math.ceil(percentile * leveled));
+            long seen = 0;
+            for (Map.Entry<Integer, Long> level : levels.entrySet()) {
+                seen += level.getValue();
+                if (seen >= rank) {
+                    return level.getKey();
+                }
+            }
+            return levels.lastKey();
+        }
+    }
+}
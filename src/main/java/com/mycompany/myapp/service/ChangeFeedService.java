@@ -0,0 +1,351 @@
+package com.mycompany.myapp.service;
+
+import com.mycompany.myapp.config.ApplicationProperties;
+import com.mycompany.myapp.domain.Competence;
+import com.mycompany.myapp.domain.Employee;
+import com.mycompany.myapp.service.dto.ChangeDTO;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.persistence.EntityManagerFactory;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCommitDeleteEventListener;
+import org.hibernate.event.spi.PostCommitInsertEventListener;
+import org.hibernate.event.spi.PostCommitUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.internal.SessionFactoryImpl;
+import org.hibernate.persister.entity.EntityPersister;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * Service notifying subscribers of the committed changes of {@link Employee}s and {@link Competence}s.
+ * <p>
+ * Changes are collected by Hibernate post-commit listeners, so subscribers only see committed data. Writes that bypass
+ * Hibernate events (bulk JPQL or SQL statements) must call {@link #deleted(Class, Collection)} once committed.
+ * <p>
+ * Every subscriber has a bounded buffer, drained by a small pool of sender threads only while it holds changes, so an
+ * idle subscriber costs no thread and almost no memory. The notification of a change never waits for a subscriber:
+ * when the buffer of a subscriber that is not keeping up is full, its buffered changes are dropped and it is told to
+ * reload the data it shows instead.
+ */
+@Service
+public class ChangeFeedService {
+
+    private final Logger log = LoggerFactory.getLogger(ChangeFeedService.class);
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    private final int bufferSize;
+
+    private final int maxSubscribers;
+
+    private final ExecutorService sender;
+
+    private final Set<Subscription> subscriptions = ConcurrentHashMap.newKeySet();
+
+    private final AtomicLong sequence = new AtomicLong();
+
+    public ChangeFeedService(EntityManagerFactory entityManagerFactory, ApplicationProperties applicationProperties) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.bufferSize = applicationProperties.getChangeFeed().getBufferSize();
+        this.maxSubscribers = applicationProperties.getChangeFeed().getMaxSubscribers();
+        AtomicInteger threads = new AtomicInteger();
+        this.sender =
+            Executors.newFixedThreadPool(
+                applicationProperties.getChangeFeed().getSenderThreads(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "change-feed-sender-" + threads.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            );
+    }
+
+    @PostConstruct
+    public void registerListeners() {
+        EventListenerRegistry registry = entityManagerFactory
+            .unwrap(SessionFactoryImpl.class)
+            .getServiceRegistry()
+            .getService(EventListenerRegistry.class);
+        ChangeListener listener = new ChangeListener();
+        registry.appendListeners(EventType.POST_COMMIT_INSERT, listener);
+        registry.appendListeners(EventType.POST_COMMIT_UPDATE, listener);
+        registry.appendListeners(EventType.POST_COMMIT_DELETE, listener);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        sender.shutdownNow();
+    }
+
+    /**
+     * Subscribe to the changes.
+     *
+     * @param subscriber the subscriber, called by one sender thread at a time.
+     * @param lastSequence the sequence of the last change received by a reconnecting subscriber, or {@code null} for a
+     * new one; the subscription starts with a reset if there were changes since, or if the sequence is not the current
+     * one (e.g. it was received before a restart).
+     * @return the subscription, or empty if there are already {@code application.change-feed.max-subscribers}.
+     */
+    public Optional<Subscription> subscribe(Subscriber subscriber, Long lastSequence) {
+        if (subscriptions.size() >= maxSubscribers) {
+            log.warn("Change feed subscription refused, there are already {} subscribers", subscriptions.size());
+            return Optional.empty();
+        }
+        Subscription subscription = new Subscription(subscriber);
+        subscriptions.add(subscription);
+        log.debug("Change feed subscription added, {} subscribers", subscriptions.size());
+        // read once subscribed, so that a concurrent change is either sent or counted here
+        long current = sequence.get();
+        if (lastSequence != null && lastSequence != current) {
+            subscription.reset(current);
+        }
+        return Optional.of(subscription);
+    }
+
+    /**
+     * Notify the subscribers of entities deleted without Hibernate events.
+     *
+     * @param entityClass the class of the entities.
+     * @param ids the ids of the committed deleted entities.
+     */
+    public void deleted(Class<?> entityClass, Collection<Long> ids) {
+        ids.forEach(id -> notify(entityClass.getSimpleName(), id, ChangeDTO.Type.DELETED, null));
+    }
+
+    /**
+     * Send a heartbeat to every subscriber, so that broken connections are detected and proxies keep idle ones open.
+     */
+    @Scheduled(
+        fixedDelayString = "${application.change-feed.heartbeat-interval:PT30S}",
+        initialDelayString = "${application.change-feed.heartbeat-interval:PT30S}"
+    )
+    public void heartbeat() {
+        subscriptions.forEach(Subscription::heartbeat);
+    }
+
+    private void notify(String entity, Long id, ChangeDTO.Type type, Long version) {
+        // counted even without subscribers, so that reconnecting ones know they missed changes
+        long next = sequence.incrementAndGet();
+        if (subscriptions.isEmpty()) {
+            return;
+        }
+        ChangeDTO change = new ChangeDTO(next, entity, id, type, version);
+        subscriptions.forEach(subscription -> subscription.offer(change));
+    }
+
+    /**
+     * Receiver of the changes of a subscription. A subscription is cancelled when its subscriber throws.
+     */
+    public interface Subscriber {
+        /**
+         * @param changes the next changes, in order.
+         */
+        void onChanges(List<ChangeDTO> changes) throws Exception;
+
+        /**
+         * Called instead of the changes that were dropped because the buffer of the subscriber was full, or that were
+         * made while a reconnecting subscriber was disconnected.
+         *
+         * @param sequence the sequence of the last of those changes, from which a reconnecting subscriber is up to date.
+         */
+        void onReset(long sequence) throws Exception;
+
+        void onHeartbeat() throws Exception;
+    }
+
+    /**
+     * The subscription of a {@link Subscriber}, with its buffer of changes.
+     */
+    public final class Subscription {
+
+        private final Subscriber subscriber;
+
+        // guarded by this
+        private final ArrayDeque<ChangeDTO> buffer = new ArrayDeque<>();
+
+        private boolean reset;
+
+        private long resetSequence;
+
+        private boolean heartbeat;
+
+        private boolean draining;
+
+        private Subscription(Subscriber subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        public void cancel() {
+            if (subscriptions.remove(this)) {
+                log.debug("Change feed subscription removed, {} subscribers", subscriptions.size());
+            }
+        }
+
+        private void offer(ChangeDTO change) {
+            synchronized (this) {
+                if (buffer.size() < bufferSize) {
+                    buffer.add(change);
+                } else {
+                    buffer.clear();
+                    reset = true;
+                    resetSequence = change.getSequence();
+                }
+                if (!startDraining()) {
+                    return;
+                }
+            }
+            submitDrain();
+        }
+
+        private void reset(long sequence) {
+            synchronized (this) {
+                reset = true;
+                // a concurrent overflow may already have dropped a later change
+                resetSequence = Math.max(resetSequence, sequence);
+                if (!startDraining()) {
+                    return;
+                }
+            }
+            submitDrain();
+        }
+
+        private void heartbeat() {
+            synchronized (this) {
+                heartbeat = true;
+                if (!startDraining()) {
+                    return;
+                }
+            }
+            submitDrain();
+        }
+
+        private boolean startDraining() {
+            if (draining) {
+                return false;
+            }
+            draining = true;
+            return true;
+        }
+
+        private void submitDrain() {
+            try {
+                sender.execute(this::drain);
+            } catch (RuntimeException e) {
+                // the sender is shut down
+                cancel();
+            }
+        }
+
+        private void drain() {
+            while (true) {
+                List<ChangeDTO> changes;
+                boolean sendReset;
+                long sentResetSequence;
+                boolean sendHeartbeat;
+                synchronized (this) {
+                    if (buffer.isEmpty() && !reset && !heartbeat) {
+                        draining = false;
+                        return;
+                    }
+                    changes = new ArrayList<>(buffer);
+                    buffer.clear();
+                    sendReset = reset;
+                    sentResetSequence = resetSequence;
+                    sendHeartbeat = heartbeat;
+                    reset = false;
+                    heartbeat = false;
+                }
+                try {
+                    if (sendReset) {
+                        subscriber.onReset(sentResetSequence);
+                    }
+                    if (!changes.isEmpty()) {
+                        subscriber.onChanges(changes);
+                    } else if (sendHeartbeat && !sendReset) {
+                        subscriber.onHeartbeat();
+                    }
+                } catch (Exception e) {
+                    log.debug("Change feed subscriber failed, cancelling its subscription: {}", e.getMessage());
+                    cancel();
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Notifies the subscribers of the committed writes of employees and competences.
+     */
+    private final class ChangeListener
+        implements PostCommitInsertEventListener, PostCommitUpdateEventListener, PostCommitDeleteEventListener {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void onPostInsert(PostInsertEvent event) {
+            notify(event.getPersister(), event.getId(), ChangeDTO.Type.CREATED, event.getEntity());
+        }
+
+        @Override
+        public void onPostUpdate(PostUpdateEvent event) {
+            notify(event.getPersister(), event.getId(), ChangeDTO.Type.UPDATED, event.getEntity());
+        }
+
+        @Override
+        public void onPostDelete(PostDeleteEvent event) {
+            notify(event.getPersister(), event.getId(), ChangeDTO.Type.DELETED, event.getEntity());
+        }
+
+        private void notify(EntityPersister persister, Object id, ChangeDTO.Type type, Object entity) {
+            // the listener is also called for the entities of the other post-commit listeners
+            if (!requiresPostCommitHandling(persister)) {
+                return;
+            }
+            Object version = persister.isVersioned() ? persister.getVersion(entity) : null;
+            ChangeFeedService.this.notify(
+                persister.getMappedClass().getSimpleName(),
+                (Long) id,
+                type,
+                version == null ? null : ((Number) version).longValue()
+            );
+        }
+
+        @Override
+        public void onPostInsertCommitFailed(PostInsertEvent event) {
+            // nothing is notified before the commit
+        }
+
+        @Override
+        public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+            // nothing is notified before the commit
+        }
+
+        @Override
+        public void onPostDeleteCommitFailed(PostDeleteEvent event) {
+            // nothing is notified before the commit
+        }
+
+        @Override
+        public boolean requiresPostCommitHandling(EntityPersister persister) {
+            Class<?> mappedClass = persister.getMappedClass();
+            return Employee.class.isAssignableFrom(mappedClass) || Competence.class.isAssignableFrom(mappedClass);
+        }
+    }
+}
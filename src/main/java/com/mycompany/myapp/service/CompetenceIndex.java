@@ -0,0 +1,86 @@
+package com.mycompany.myapp.service;
+
+import com.mycompany.myapp.domain.Competence;
+
+/**
+ * An in-memory index of the {@link Competence}s, maintained by the {@link CompetenceIndexService}.
+ * <p>
+ * Writes ({@link #clear()}, {@link #put(Entry)} and {@link #remove(long)}) are never called concurrently, and must be
+ * idempotent: the same competence can be put several times, and a competence that is not indexed can be removed.
+ * Implementations must be safe to read while they are written to.
+ */
+public interface CompetenceIndex {
+    /**
+     * Tell whether a competence belongs to this index; by default, the competences assigned to an employee and named.
+     * A competence that no longer belongs to the index is {@link #remove(long) removed} from it.
+     *
+     * @param entry the committed state of the competence.
+     * @return {@code true} if the competence is indexed.
+     */
+    default boolean accepts(Entry entry) {
+        return entry.getEmployeeId() != null && entry.getName() != null;
+    }
+
+    /**
+     * Remove all the competences, before the index is reloaded.
+     */
+    void clear();
+
+    /**
+     * Add a competence, or replace its previous version.
+     *
+     * @param entry the committed state of the competence, {@link #accepts(Entry) accepted} by this index.
+     */
+    void put(Entry entry);
+
+    /**
+     * Remove a competence.
+     *
+     * @param competenceId the id of the competence.
+     */
+    void remove(long competenceId);
+
+    /**
+     * The indexed state of a competence.
+     */
+    final class Entry {
+
+        private final long competenceId;
+
+        private final Long employeeId;
+
+        private final Long categoryId;
+
+        private final String name;
+
+        private final Integer level;
+
+        public Entry(long competenceId, Long employeeId, Long categoryId, String name, Integer level) {
+            this.competenceId = competenceId;
+            this.employeeId = employeeId;
+            this.categoryId = categoryId;
+            this.name = name;
+            this.level = level;
+        }
+
+        public long getCompetenceId() {
+            return competenceId;
+        }
+
+        public Long getEmployeeId() {
+            return employeeId;
+        }
+
+        public Long getCategoryId() {
+            return categoryId;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public Integer getLevel() {
+            return level;
+        }
+    }
+}
@@ -0,0 +1,200 @@
+package com.mycompany.myapp.service;
+
+import com.mycompany.myapp.domain.Competence;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+import javax.annotation.PostConstruct;
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCommitDeleteEventListener;
+import org.hibernate.event.spi.PostCommitInsertEventListener;
+import org.hibernate.event.spi.PostCommitUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.internal.SessionFactoryImpl;
+import org.hibernate.jpa.QueryHints;
+import org.hibernate.persister.entity.EntityPersister;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Service maintaining the in-memory {@link CompetenceIndex}es.
+ * <p>
+ * The indexes are loaded from the database when the application is ready, with a single query, then maintained
+ * incrementally by Hibernate post-commit listeners on every insert, update and delete of a {@link Competence}, so they
+ * only contain committed data. Writes that bypass Hibernate events (bulk JPQL or SQL statements) must call
+ * {@link #index(Competence)}, {@link #remove(Long)} or {@link #rebuild()}.
+ * <p>
+ * Writes to the indexes are serialized by this service; every index chooses the competences it holds with
+ * {@link CompetenceIndex#accepts(CompetenceIndex.Entry)}.
+ */
+@Service
+public class CompetenceIndexService {
+
+    private final Logger log = LoggerFactory.getLogger(CompetenceIndexService.class);
+
+    private static final int FETCH_SIZE = 1000;
+
+    private final List<CompetenceIndex> indexes;
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    private final EntityManager entityManager;
+
+    private final TransactionTemplate transactionTemplate;
+
+    public CompetenceIndexService(
+        List<CompetenceIndex> indexes,
+        EntityManagerFactory entityManagerFactory,
+        EntityManager entityManager,
+        PlatformTransactionManager transactionManager
+    ) {
+        this.indexes = indexes;
+        this.entityManagerFactory = entityManagerFactory;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+    }
+
+    @PostConstruct
+    public void registerListeners() {
+        EventListenerRegistry registry = entityManagerFactory
+            .unwrap(SessionFactoryImpl.class)
+            .getServiceRegistry()
+            .getService(EventListenerRegistry.class);
+        CompetenceListener listener = new CompetenceListener();
+        registry.appendListeners(EventType.POST_COMMIT_INSERT, listener);
+        registry.appendListeners(EventType.POST_COMMIT_UPDATE, listener);
+        registry.appendListeners(EventType.POST_COMMIT_DELETE, listener);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    /**
+     * Reload all the indexes from the database.
+     */
+    public synchronized void rebuild() {
+        log.debug("Request to rebuild the competence indexes");
+        long startTime = System.currentTimeMillis();
+        indexes.forEach(CompetenceIndex::clear);
+        AtomicLong count = new AtomicLong();
+        transactionTemplate.executeWithoutResult(status -> {
+            try (
+                Stream<Object[]> rows = entityManager
+                    .createQuery(
+                        "select competence.id, competence.employee.id, competence.category.id, competence.name, competence.level " +
+                        "from Competence competence",
+                        Object[].class
+                    )
+                    .setHint(QueryHints.HINT_FETCH_SIZE, FETCH_SIZE)
+                    .getResultStream()
+            ) {
+                rows.forEach(row -> {
+                    CompetenceIndex.Entry entry = new CompetenceIndex.Entry(
+                        (Long) row[0],
+                        (Long) row[1],
+                        (Long) row[2],
+                        (String) row[3],
+                        (Integer) row[4]
+                    );
+                    indexes.stream().filter(index -> index.accepts(entry)).forEach(index -> index.put(entry));
+                    count.incrementAndGet();
+                });
+            }
+        });
+        log.info("Competence indexes of {} competences built in {} ms", count, System.currentTimeMillis() - startTime);
+    }
+
+    /**
+     * Add or update a competence in the indexes.
+     *
+     * @param competence the committed competence.
+     */
+    public synchronized void index(Competence competence) {
+        CompetenceIndex.Entry entry = new CompetenceIndex.Entry(
+            competence.getId(),
+            competence.getEmployee() == null ? null : competence.getEmployee().getId(),
+            competence.getCategory() == null ? null : competence.getCategory().getId(),
+            competence.getName(),
+            competence.getLevel()
+        );
+        for (CompetenceIndex index : indexes) {
+            if (index.accepts(entry)) {
+                index.put(entry);
+            } else {
+                index.remove(entry.getCompetenceId());
+            }
+        }
+    }
+
+    /**
+     * Remove a competence from the indexes.
+     *
+     * @param competenceId the id of the deleted competence.
+     */
+    public synchronized void remove(Long competenceId) {
+        indexes.forEach(index -> index.remove(competenceId));
+    }
+
+    /**
+     * Keeps the indexes up to date with the committed writes of competences.
+     */
+    private final class CompetenceListener
+        implements PostCommitInsertEventListener, PostCommitUpdateEventListener, PostCommitDeleteEventListener {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void onPostInsert(PostInsertEvent event) {
+            if (event.getEntity() instanceof Competence) {
+                index((Competence) event.getEntity());
+            }
+        }
+
+        @Override
+        public void onPostUpdate(PostUpdateEvent event) {
+            if (event.getEntity() instanceof Competence) {
+                index((Competence) event.getEntity());
+            }
+        }
+
+        @Override
+        public void onPostDelete(PostDeleteEvent event) {
+            if (event.getEntity() instanceof Competence) {
+                remove((Long) event.getId());
+            }
+        }
+
+        @Override
+        public void onPostInsertCommitFailed(PostInsertEvent event) {
+            // nothing was indexed before the commit
+        }
+
+        @Override
+        public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+            // nothing was indexed before the commit
+        }
+
+        @Override
+        public void onPostDeleteCommitFailed(PostDeleteEvent event) {
+            // nothing was indexed before the commit
+        }
+
+        @Override
+        public boolean requiresPostCommitHandling(EntityPersister persister) {
+            return Competence.class.isAssignableFrom(persister.getMappedClass());
+        }
+    }
+}
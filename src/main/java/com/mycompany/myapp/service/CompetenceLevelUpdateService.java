@@ -0,0 +1,89 @@
+package com.mycompany.myapp.service;
+
+import com.mycompany.myapp.domain.Competence;
+import com.mycompany.myapp.service.dto.BulkUpdateResultDTO;
+import com.mycompany.myapp.service.dto.CompetenceLevelDTO;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import javax.persistence.EntityManager;
+import org.hibernate.search.mapper.orm.Search;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Service for changing the level of many {@link Competence}s at once.
+ * <p>
+ * All the changes are made in one transaction. Competences are read by chunks with a single {@code in} query, and
+ * each chunk is flushed and cleared, so that the updates are sent as JDBC batches of {@code hibernate.jdbc.batch_size}
+ * (ordered by id with {@code hibernate.order_updates}) and the persistence context stays small. Going through Hibernate
+ * rather than a native update keeps the optimistic locking versions, the modification dates, the second-level cache,
+ * the full-text index and the in-memory competence indexes consistent with the database.
+ */
+@Service
+@Transactional
+public class CompetenceLevelUpdateService {
+
+    private final Logger log = LoggerFactory.getLogger(CompetenceLevelUpdateService.class);
+
+    private static final int CHUNK_SIZE = 1000;
+
+    private final EntityManager entityManager;
+
+    public CompetenceLevelUpdateService(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * Change the level of competences. Changes without an id or a level, and changes of a competence already changed
+     * earlier in the list, are invalid and ignored; the other changes are all made or, on a failure, none is.
+     *
+     * @param changes the changes.
+     * @return the result of every change, in the order of the changes.
+     */
+    public BulkUpdateResultDTO updateLevels(List<CompetenceLevelDTO> changes) {
+        log.debug("Request to update the level of {} Competences", changes.size());
+        BulkUpdateResultDTO result = new BulkUpdateResultDTO();
+        Map<Long, CompetenceLevelDTO> validChanges = new LinkedHashMap<>();
+        Map<Long, BulkUpdateResultDTO.Result> results = new HashMap<>();
+        for (CompetenceLevelDTO change : changes) {
+            BulkUpdateResultDTO.Result changeResult = result.add(change.getId());
+            if (change.getId() == null) {
+                result.setStatus(changeResult, BulkUpdateResultDTO.Status.INVALID, "id is required");
+            } else if (change.getLevel() == null) {
+                result.setStatus(changeResult, BulkUpdateResultDTO.Status.INVALID, "level is required");
+            } else if (validChanges.putIfAbsent(change.getId(), change) != null) {
+                result.setStatus(changeResult, BulkUpdateResultDTO.Status.INVALID, "duplicate id");
+            } else {
+                results.put(change.getId(), changeResult);
+            }
+        }
+
+        List<Long> ids = new ArrayList<>(validChanges.keySet());
+        for (int from = 0; from < ids.size(); from += CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + CHUNK_SIZE, ids.size()));
+            List<Competence> competences = entityManager
+                .createQuery("select competence from Competence competence where competence.id in :ids", Competence.class)
+                .setParameter("ids", chunk)
+                .getResultList();
+            for (Competence competence : competences) {
+                competence.setLevel(validChanges.get(competence.getId()).getLevel());
+                result.setStatus(results.remove(competence.getId()), BulkUpdateResultDTO.Status.UPDATED, null);
+            }
+            flushAndClear();
+        }
+        results.values().forEach(notFound -> result.setStatus(notFound, BulkUpdateResultDTO.Status.NOT_FOUND, "competence not found"));
+        log.debug("Bulk update of Competence levels done: {}", result);
+        return result;
+    }
+
+    private void flushAndClear() {
+        entityManager.flush();
+        Search.session(entityManager).indexingPlan().process();
+        entityManager.clear();
+    }
+}
@@ -0,0 +1,163 @@
+package com.mycompany.myapp.service;
+
+import com.mycompany.myapp.domain.*; // for static metamodels
+import com.mycompany.myapp.domain.Competence;
+import com.mycompany.myapp.repository.CompetenceRepository;
+import com.mycompany.myapp.service.criteria.CompetenceCriteria;
+import com.mycompany.myapp.service.dto.CompetenceDTO;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import javax.persistence.EntityManager;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Join;
+import javax.persistence.criteria.JoinType;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+import javax.persistence.metamodel.SingularAttribute;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import tech.jhipster.service.QueryService;
+import tech.jhipster.service.filter.LongFilter;
+
+/**
+ * Service for executing complex queries for {@link Competence} entities in the database.
+ * The main input is a {@link CompetenceCriteria} which gets converted to {@link Specification},
+ * in a way that all the filters must apply.
+ * It returns a {@link List} of {@link CompetenceDTO} which fulfills the criteria, with their category and employee,
+ * selected with a constructor expression so that no entity is loaded in the persistence context.
+ */
+@Service
+@Transactional(readOnly = true)
+public class CompetenceQueryService extends QueryService<Competence> {
+
+    private final Logger log = LoggerFactory.getLogger(CompetenceQueryService.class);
+
+    private final CompetenceRepository competenceRepository;
+
+    private final EntityManager entityManager;
+
+    public CompetenceQueryService(CompetenceRepository competenceRepository, EntityManager entityManager) {
+        this.competenceRepository = competenceRepository;
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * Return a {@link List} of {@link CompetenceDTO} which matches the criteria from the database.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @return the matching entities.
+     */
+    public List<CompetenceDTO> findByCriteria(CompetenceCriteria criteria) {
+        log.debug("find by criteria : {}", criteria);
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<CompetenceDTO> query = builder.createQuery(CompetenceDTO.class);
+        Root<Competence> root = query.from(Competence.class);
+        // the filters reuse the joins of the selected category and employee
+        Join<Competence, Category> category = join(root, Competence_.category);
+        Join<Competence, Employee> employee = join(root, Competence_.employee);
+        query.select(
+            builder.construct(
+                CompetenceDTO.class,
+                root.get(Competence_.id),
+                root.get(Competence_.name),
+                root.get(Competence_.level),
+                category.get(Category_.id),
+                category.get(Category_.name),
+                employee.get(Employee_.id),
+                employee.get(Employee_.name),
+                employee.get(Employee_.firstName),
+                employee.get(Employee_.address)
+            )
+        );
+        Predicate predicate = createSpecification(criteria).toPredicate(root, query, builder);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        return entityManager.createQuery(query).getResultList();
+    }
+
+    /**
+     * Return the competences of ids, as {@link #findByCriteria(CompetenceCriteria)} does.
+     * @param ids the ids of the entities.
+     * @return the existing entities, in the order of their ids.
+     */
+    public List<CompetenceDTO> findAllById(List<Long> ids) {
+        log.debug("find by ids : {}", ids);
+        if (ids.isEmpty()) {
+            return new ArrayList<>();
+        }
+        LongFilter idFilter = new LongFilter();
+        idFilter.setIn(ids);
+        CompetenceCriteria criteria = new CompetenceCriteria();
+        criteria.setId(idFilter);
+        Map<Long, CompetenceDTO> competences = findByCriteria(criteria)
+            .stream()
+            .collect(Collectors.toMap(CompetenceDTO::getId, Function.identity()));
+        return ids.stream().map(competences::get).filter(Objects::nonNull).collect(Collectors.toList());
+    }
+
+    /**
+     * Return the number of matching entities in the database.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @return the number of matching entities.
+     */
+    public long countByCriteria(CompetenceCriteria criteria) {
+        log.debug("count by criteria : {}", criteria);
+        return competenceRepository.count(createSpecification(criteria));
+    }
+
+    /**
+     * Function to convert {@link CompetenceCriteria} to a {@link Specification}
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @return the matching {@link Specification} of the entity.
+     */
+    protected Specification<Competence> createSpecification(CompetenceCriteria criteria) {
+        Specification<Competence> specification = Specification.where(null);
+        if (criteria == null) {
+            return specification;
+        }
+        if (criteria.getId() != null) {
+            specification = specification.and(buildRangeSpecification(criteria.getId(), Competence_.id));
+        }
+        if (criteria.getName() != null) {
+            specification = specification.and(buildStringSpecification(criteria.getName(), Competence_.name));
+        }
+        if (criteria.getLevel() != null) {
+            specification = specification.and(buildRangeSpecification(criteria.getLevel(), Competence_.level));
+        }
+        if (criteria.getCategoryId() != null) {
+            specification =
+                specification.and(
+                    buildSpecification(criteria.getCategoryId(), root -> join(root, Competence_.category).get(Category_.id))
+                );
+        }
+        if (criteria.getEmployeeId() != null) {
+            specification =
+                specification.and(
+                    buildSpecification(criteria.getEmployeeId(), root -> join(root, Competence_.employee).get(Employee_.id))
+                );
+        }
+        return specification;
+    }
+
+    /**
+     * The left join of a to-one association, created by its first use and reused by the following ones.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> Join<Competence, T> join(Root<Competence> root, SingularAttribute<Competence, T> attribute) {
+        return root
+            .getJoins()
+            .stream()
+            .filter(join -> attribute.equals(join.getAttribute()))
+            .map(join -> (Join<Competence, T>) join)
+            .findFirst()
+            .orElseGet(() -> root.join(attribute, JoinType.LEFT));
+    }
+}
@@ -0,0 +1,194 @@
+package com.mycompany.myapp.service;
+
+import com.mycompany.myapp.domain.Employee;
+import com.mycompany.myapp.repository.EmployeeRepository;
+import com.mycompany.myapp.service.dto.CompetenceExpertDTO;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Service ranking the employees of every competence by level, for "top experts" queries.
+ * <p>
+ * Every competence name (case-insensitive) has a ranking of its competences, sorted by descending level, which is
+ * updated in {@code O(log n)} on every write by the {@link CompetenceIndexService}. The top {@link #MAX_K} employees of
+ * a ranking are computed on the first read following a write, then shared by all the reads until the next write, so
+ * frequently refreshed dashboards never sort competences.
+ */
+@Service
+public class CompetenceRankingService implements CompetenceIndex {
+
+    private final Logger log = LoggerFactory.getLogger(CompetenceRankingService.class);
+
+    /**
+     * The maximum number of employees returned for a competence.
+     */
+    public static final int MAX_K = 100;
+
+    private static final Comparator<Ranked> RANKING_ORDER = Comparator
+        .comparing((Ranked ranked) -> ranked.level, Comparator.nullsLast(Comparator.reverseOrder()))
+        .thenComparingLong(ranked -> ranked.employeeId)
+        .thenComparingLong(ranked -> ranked.competenceId);
+
+    private final EmployeeRepository employeeRepository;
+
+    /**
+     * Rankings by normalized competence name.
+     */
+    private final Map<String, Ranking> rankings = new ConcurrentHashMap<>();
+
+    /**
+     * Ranked competences by id, to find their previous position when they are updated or deleted.
+     */
+    private final Map<Long, Ranked> competences = new HashMap<>();
+
+    public CompetenceRankingService(EmployeeRepository employeeRepository) {
+        this.employeeRepository = employeeRepository;
+    }
+
+    @Override
+    public void clear() {
+        competences.clear();
+        rankings.clear();
+    }
+
+    @Override
+    public void put(Entry entry) {
+        Ranked ranked = new Ranked(entry.getCompetenceId(), entry.getEmployeeId(), normalize(entry.getName()), entry.getLevel());
+        Ranked previous = competences.put(ranked.competenceId, ranked);
+        if (previous != null) {
+            rankings.get(previous.name).remove(previous);
+        }
+        rankings.computeIfAbsent(ranked.name, key -> new Ranking()).add(ranked);
+    }
+
+    @Override
+    public void remove(long competenceId) {
+        Ranked previous = competences.remove(competenceId);
+        if (previous != null) {
+            rankings.get(previous.name).remove(previous);
+        }
+    }
+
+    /**
+     * Get the employees with the highest level in a competence, an employee having the same competence several times
+     * being ranked by the best one.
+     *
+     * @param name the name of the competence, case-insensitive.
+     * @param k the number of employees to return, at most {@link #MAX_K}.
+     * @return the best employees, by descending level then ascending id.
+     */
+    @Transactional(readOnly = true)
+    public List<CompetenceExpertDTO> findTopExperts(String name, int k) {
+        log.debug("Request to get the top {} experts of Competence : {}", k, name);
+        Ranking ranking = rankings.get(normalize(name));
+        if (ranking == null) {
+            return Collections.emptyList();
+        }
+        List<Ranked> top = ranking.top();
+        top = top.subList(0, Math.min(k, top.size()));
+        Map<Long, Employee> employees = employeeRepository
+            .findAllById(top.stream().map(ranked -> ranked.employeeId).collect(Collectors.toList()))
+            .stream()
+            .collect(Collectors.toMap(Employee::getId, Function.identity()));
+
+        List<CompetenceExpertDTO> experts = new ArrayList<>(top.size());
+        for (Ranked ranked : top) {
+            Employee employee = employees.get(ranked.employeeId);
+            if (employee == null) {
+                // deleted since the last read of the ranking
+                continue;
+            }
+            CompetenceExpertDTO expert = new CompetenceExpertDTO();
+            expert.setRank(experts.size() + 1);
+            expert.setEmployeeId(employee.getId());
+            expert.setName(employee.getName());
+            expert.setFirstName(employee.getFirstName());
+            expert.setCompetenceId(ranked.competenceId);
+            expert.setLevel(ranked.level);
+            experts.add(expert);
+        }
+        return experts;
+    }
+
+    private static String normalize(String name) {
+        return name.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static final class Ranked {
+
+        private final long competenceId;
+
+        private final long employeeId;
+
+        private final String name;
+
+        private final Integer level;
+
+        private Ranked(long competenceId, long employeeId, String name, Integer level) {
+            this.competenceId = competenceId;
+            this.employeeId = employeeId;
+            this.name = name;
+            this.level = level;
+        }
+    }
+
+    /**
+     * The competences of one name, sorted by {@link #RANKING_ORDER}, and the cached top of the ranking.
+     */
+    private static final class Ranking {
+
+        private final TreeSet<Ranked> competences = new TreeSet<>(RANKING_ORDER);
+
+        private volatile List<Ranked> top;
+
+        synchronized void add(Ranked ranked) {
+            competences.add(ranked);
+            top = null;
+        }
+
+        synchronized void remove(Ranked ranked) {
+            competences.remove(ranked);
+            top = null;
+        }
+
+        List<Ranked> top() {
+            List<Ranked> current = top;
+            if (current == null) {
+                current = computeTop();
+            }
+            return current;
+        }
+
+        private synchronized List<Ranked> computeTop() {
+            if (top == null) {
+                List<Ranked> best = new ArrayList<>(MAX_K);
+                Set<Long> employeeIds = new HashSet<>();
+                for (Ranked ranked : competences) {
+                    if (employeeIds.add(ranked.employeeId)) {
+                        best.add(ranked);
+                        if (best.size() == MAX_K) {
+                            break;
+                        }
+                    }
+                }
+                top = Collections.unmodifiableList(best);
+            }
+            return top;
+        }
+    }
+}
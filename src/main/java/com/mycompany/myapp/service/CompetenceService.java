@@ -0,0 +1,69 @@
+package com.mycompany.myapp.service;
+
+import com.mycompany.myapp.domain.Competence;
+import com.mycompany.myapp.service.dto.CompetenceDTO;
+import com.mycompany.myapp.service.dto.VersionDTO;
+import java.time.Instant;
+import java.util.Optional;
+import javax.persistence.EntityManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Service for reading {@link Competence}s as {@link CompetenceDTO}s, with JPQL constructor expressions.
+ */
+@Service
+@Transactional(readOnly = true)
+public class CompetenceService {
+
+    private final Logger log = LoggerFactory.getLogger(CompetenceService.class);
+
+    private final EntityManager entityManager;
+
+    public CompetenceService(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * Get one competence by id, with its category and its employee.
+     *
+     * @param id the id of the entity.
+     * @return the entity.
+     */
+    public Optional<CompetenceDTO> findOne(Long id) {
+        log.debug("Request to get Competence : {}", id);
+        return entityManager
+            .createQuery(
+                "select new com.mycompany.myapp.service.dto.CompetenceDTO(competence.id, competence.name, competence.level, " +
+                "category.id, category.name, employee.id, employee.name, employee.firstName, employee.address) " +
+                "from Competence competence left join competence.category category left join competence.employee employee " +
+                "where competence.id = :id",
+                CompetenceDTO.class
+            )
+            .setParameter("id", id)
+            .getResultStream()
+            .findFirst();
+    }
+
+    /**
+     * Get the version of a competence, which includes its category and its employee.
+     *
+     * @param id the id of the entity.
+     * @return the version, or empty if there is no such competence.
+     */
+    public Optional<VersionDTO> findVersion(Long id) {
+        return entityManager
+            .createQuery(
+                "select competence.lastModifiedDate, category.lastModifiedDate, employee.lastModifiedDate " +
+                "from Competence competence left join competence.category category left join competence.employee employee " +
+                "where competence.id = :id",
+                Object[].class
+            )
+            .setParameter("id", id)
+            .getResultStream()
+            .findFirst()
+            .map(row -> VersionDTO.ofAll(1, (Instant) row[0], (Instant) row[1], (Instant) row[2]));
+    }
+}
@@ -0,0 +1,217 @@
+package com.mycompany.myapp.service;
+
+import com.mycompany.myapp.domain.Competence;
+import com.mycompany.myapp.domain.Employee;
+import com.mycompany.myapp.service.criteria.EmployeeCriteria;
+import com.mycompany.myapp.service.dto.BulkDeletionDTO;
+import com.mycompany.myapp.service.dto.EmployeeDTO;
+import com.mycompany.myapp.service.dto.OutboxEventDTO;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import javax.persistence.EntityManager;
+import org.hibernate.search.mapper.orm.Search;
+import org.hibernate.search.mapper.orm.work.SearchIndexingPlan;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Service for deleting {@link Employee}s with their {@link Competence}s.
+ * <p>
+ * A single employee is removed with its competences through the {@link EntityManager}, so the Hibernate events
+ * update the full-text index, the outbox, the in-memory competence indexes and the change feed, and only the deleted
+ * entities are evicted from the second-level cache.
+ * <p>
+ * Bulk deletions delete employees by chunks of ids, each chunk in its own transaction (or in the transaction of the
+ * caller), with two set-based statements: one deleting the competences of the chunk, one deleting its employees. As
+ * these bulk statements bypass the Hibernate events, the full-text index documents are purged and the outbox events
+ * appended explicitly, and the in-memory competence indexes and the change feed are updated once the chunk is
+ * committed; Hibernate evicts the whole second-level cache regions of the deleted entities itself.
+ * <p>
+ * Large deletions run on the task executor, and their progress is kept in memory for {@link #RETENTION} after they end.
+ */
+@Service
+public class EmployeeDeletionService {
+
+    private final Logger log = LoggerFactory.getLogger(EmployeeDeletionService.class);
+
+    public static final int CHUNK_SIZE = 1000;
+
+    private static final Duration RETENTION = Duration.ofHours(1);
+
+    private final EntityManager entityManager;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final EmployeeQueryService employeeQueryService;
+
+    private final CompetenceIndexService competenceIndexService;
+
+    private final OutboxService outboxService;
+
+    private final ChangeFeedService changeFeedService;
+
+    private final Executor taskExecutor;
+
+    private final Map<String, BulkDeletionDTO> deletions = new ConcurrentHashMap<>();
+
+    public EmployeeDeletionService(
+        EntityManager entityManager,
+        PlatformTransactionManager transactionManager,
+        EmployeeQueryService employeeQueryService,
+        CompetenceIndexService competenceIndexService,
+        OutboxService outboxService,
+        ChangeFeedService changeFeedService,
+        @Qualifier("taskExecutor") Executor taskExecutor
+    ) {
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.employeeQueryService = employeeQueryService;
+        this.competenceIndexService = competenceIndexService;
+        this.outboxService = outboxService;
+        this.changeFeedService = changeFeedService;
+        this.taskExecutor = taskExecutor;
+    }
+
+    /**
+     * Delete an employee, with its competences.
+     *
+     * @param id the id of the employee.
+     * @return {@code true} if the employee existed.
+     */
+    public boolean delete(Long id) {
+        log.debug("Request to delete Employee : {}", id);
+        return transactionTemplate.execute(status -> {
+            Employee employee = entityManager.find(Employee.class, id);
+            if (employee == null) {
+                return false;
+            }
+            entityManager
+                .createQuery("select competence from Competence competence where competence.employee.id = :id", Competence.class)
+                .setParameter("id", id)
+                .getResultList()
+                .forEach(entityManager::remove);
+            entityManager.remove(employee);
+            return true;
+        });
+    }
+
+    /**
+     * Delete the employees matching criteria, with their competences. Up to {@link #CHUNK_SIZE} employees are deleted
+     * in the current thread and transaction; more employees are deleted asynchronously, chunk by chunk.
+     *
+     * @param criteria the criteria which the employees to delete should match.
+     * @return the deletion, finished or running; a running deletion can be followed with {@link #findDeletion(String)}.
+     */
+    public BulkDeletionDTO delete(EmployeeCriteria criteria) {
+        log.debug("Request to delete Employees by criteria : {}", criteria);
+        BulkDeletionDTO deletion = new BulkDeletionDTO(UUID.randomUUID().toString(), employeeQueryService.countByCriteria(criteria));
+        if (deletion.getTotal() <= CHUNK_SIZE) {
+            run(deletion, criteria);
+            return deletion;
+        }
+        Instant expired = Instant.now().minus(RETENTION);
+        deletions.values().removeIf(ended -> ended.getFinishedAt() != null && ended.getFinishedAt().isBefore(expired));
+        deletions.put(deletion.getId(), deletion);
+        taskExecutor.execute(() -> run(deletion, criteria));
+        return deletion;
+    }
+
+    /**
+     * Get the progress of an asynchronous deletion.
+     *
+     * @param id the id of the deletion.
+     * @return the deletion, or empty if it is unknown or ended more than {@link #RETENTION} ago.
+     */
+    public Optional<BulkDeletionDTO> findDeletion(String id) {
+        return Optional.ofNullable(deletions.get(id));
+    }
+
+    private void run(BulkDeletionDTO deletion, EmployeeCriteria criteria) {
+        long startTime = System.currentTimeMillis();
+        try {
+            long after = Long.MIN_VALUE;
+            while (true) {
+                long lastId = after;
+                List<Long> ids = transactionTemplate.execute(status -> {
+                    List<Long> chunk = employeeQueryService
+                        .findByCriteriaAfter(criteria, lastId, CHUNK_SIZE)
+                        .map(EmployeeDTO::getId)
+                        .getContent();
+                    if (!chunk.isEmpty()) {
+                        deletion.setDeleted(deletion.getDeleted() + deleteChunk(chunk));
+                    }
+                    return chunk;
+                });
+                if (ids.size() < CHUNK_SIZE) {
+                    break;
+                }
+                after = ids.get(ids.size() - 1);
+            }
+            deletion.setStatus(BulkDeletionDTO.Status.DONE);
+            log.debug("Deletion of Employees done in {} ms: {}", System.currentTimeMillis() - startTime, deletion);
+        } catch (RuntimeException e) {
+            // logged by the caller, or by the task executor
+            deletion.setStatus(BulkDeletionDTO.Status.FAILED);
+            deletion.setError(e.getMessage());
+            throw e;
+        } finally {
+            deletion.setFinishedAt(Instant.now());
+        }
+    }
+
+    /**
+     * Delete employees and their competences, in the current transaction.
+     *
+     * @param ids the ids of the employees.
+     * @return the number of deleted employees.
+     */
+    private int deleteChunk(List<Long> ids) {
+        List<Long> competenceIds = entityManager
+            .createQuery("select competence.id from Competence competence where competence.employee.id in :ids", Long.class)
+            .setParameter("ids", ids)
+            .getResultList();
+        if (!competenceIds.isEmpty()) {
+            entityManager
+                .createQuery("delete from Competence competence where competence.employee.id in :ids")
+                .setParameter("ids", ids)
+                .executeUpdate();
+        }
+        int deleted = entityManager
+            .createQuery("delete from Employee employee where employee.id in :ids")
+            .setParameter("ids", ids)
+            .executeUpdate();
+
+        SearchIndexingPlan indexingPlan = Search.session(entityManager).indexingPlan();
+        competenceIds.forEach(id -> indexingPlan.purge(Competence.class, id, null));
+        ids.forEach(id -> indexingPlan.purge(Employee.class, id, null));
+        outboxService.append(Competence.class, competenceIds, OutboxEventDTO.Type.DELETED);
+        if (deleted > 0) {
+            outboxService.append(Employee.class, ids, OutboxEventDTO.Type.DELETED);
+        }
+        TransactionSynchronizationManager.registerSynchronization(
+            new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    competenceIds.forEach(competenceIndexService::remove);
+                    changeFeedService.deleted(Competence.class, competenceIds);
+                    if (deleted > 0) {
+                        changeFeedService.deleted(Employee.class, ids);
+                    }
+                }
+            }
+        );
+        return deleted;
+    }
+}
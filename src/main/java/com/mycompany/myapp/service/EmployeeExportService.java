@@ -0,0 +1,115 @@
+package com.mycompany.myapp.service;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mycompany.myapp.domain.Category;
+import com.mycompany.myapp.domain.Competence;
+import com.mycompany.myapp.domain.Employee;
+import com.mycompany.myapp.repository.EmployeeRepository;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.stream.Stream;
+import javax.persistence.EntityManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Service exporting {@link Employee}s, their {@link Competence}s and {@link Category categories}
+ * as newline-delimited JSON (one employee per line).
+ * <p>
+ * Rows are streamed from the database with a JDBC fetch size and written straight to the output, and every exported
+ * employee is detached from the persistence context, so memory usage does not depend on the size of the table.
+ */
+@Service
+@Transactional(readOnly = true)
+public class EmployeeExportService {
+
+    private final Logger log = LoggerFactory.getLogger(EmployeeExportService.class);
+
+    private static final int FLUSH_INTERVAL = 500;
+
+    private final EmployeeRepository employeeRepository;
+
+    private final EntityManager entityManager;
+
+    private final ObjectMapper objectMapper;
+
+    public EmployeeExportService(EmployeeRepository employeeRepository, EntityManager entityManager, ObjectMapper objectMapper) {
+        this.employeeRepository = employeeRepository;
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Write all the employees to the given output stream, as NDJSON.
+     *
+     * @param out the stream to write to, it is flushed but not closed.
+     * @return the number of exported employees.
+     * @throws IOException if the output stream can't be written to.
+     */
+    public long exportAsNdjson(OutputStream out) throws IOException {
+        log.debug("Request to export all Employees");
+        long count = 0;
+        try (
+            JsonGenerator generator = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8);
+            Stream<Employee> employees = employeeRepository.streamAllWithCompetences()
+        ) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            // lines are terminated explicitly, instead of separating root values with a space
+            generator.setRootValueSeparator(null);
+            for (Employee employee : (Iterable<Employee>) employees::iterator) {
+                writeEmployee(generator, employee);
+                detach(employee);
+                if (++count % FLUSH_INTERVAL == 0) {
+                    generator.flush();
+                }
+            }
+            generator.flush();
+        }
+        log.debug("Exported {} Employees", count);
+        return count;
+    }
+
+    private void writeEmployee(JsonGenerator generator, Employee employee) throws IOException {
+        generator.writeStartObject();
+        generator.writeNumberField("id", employee.getId());
+        generator.writeStringField("name", employee.getName());
+        generator.writeStringField("firstName", employee.getFirstName());
+        generator.writeStringField("address", employee.getAddress());
+        generator.writeArrayFieldStart("competences");
+        for (Competence competence : employee.getCompetences()) {
+            generator.writeStartObject();
+            generator.writeNumberField("id", competence.getId());
+            generator.writeStringField("name", competence.getName());
+            if (competence.getLevel() != null) {
+                generator.writeNumberField("level", competence.getLevel());
+            } else {
+                generator.writeNullField("level");
+            }
+            Category category = competence.getCategory();
+            if (category != null) {
+                generator.writeObjectFieldStart("category");
+                generator.writeNumberField("id", category.getId());
+                generator.writeStringField("name", category.getName());
+                generator.writeEndObject();
+            } else {
+                generator.writeNullField("category");
+            }
+            generator.writeEndObject();
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+    }
+
+    /**
+     * Categories are shared by many employees and bounded in number, so they are kept in the persistence context.
+     */
+    private void detach(Employee employee) {
+        employee.getCompetences().forEach(entityManager::detach);
+        entityManager.detach(employee);
+    }
+}
@@ -0,0 +1,334 @@
+package com.mycompany.myapp.service;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mycompany.myapp.domain.Category;
+import com.mycompany.myapp.domain.Competence;
+import com.mycompany.myapp.domain.Employee;
+import com.mycompany.myapp.service.dto.BulkImportResultDTO;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import javax.persistence.EntityManager;
+import org.hibernate.search.mapper.orm.Search;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Service for importing large numbers of {@link Employee}s, with their {@link Competence}s.
+ * <p>
+ * The input is read and validated row by row, and valid rows are inserted by chunks, each chunk in its own transaction.
+ * Inside a chunk the persistence context is flushed and cleared every {@code hibernate.jdbc.batch_size} employees so
+ * that inserts are sent as JDBC batches, and identifiers come from the pooled {@code sequence_generator} (increment of 50)
+ * without a round trip per row. A chunk that fails is replayed row by row, so that a bad row is reported without
+ * aborting the rest of the import.
+ */
+@Service
+public class EmployeeImportService {
+
+    private final Logger log = LoggerFactory.getLogger(EmployeeImportService.class);
+
+    private static final int CHUNK_SIZE = 1000;
+
+    private static final char CSV_SEPARATOR = ';';
+
+    private static final String CSV_COMPETENCE_SEPARATOR = "\\|";
+
+    private static final String CSV_COMPETENCE_FIELD_SEPARATOR = ":";
+
+    private final EntityManager entityManager;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final ObjectMapper objectMapper;
+
+    private final int batchSize;
+
+    public EmployeeImportService(
+        EntityManager entityManager,
+        PlatformTransactionManager transactionManager,
+        ObjectMapper objectMapper,
+        @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:25}") int batchSize
+    ) {
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.objectMapper = objectMapper;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Import employees from a JSON array, with the same format as {@code POST /api/employees}.
+     * Competences can be given inline, and reference their category by id.
+     *
+     * @param in the JSON input.
+     * @return the result of the import.
+     * @throws IOException if the input can't be read.
+     */
+    public BulkImportResultDTO importJson(InputStream in) throws IOException {
+        log.debug("Request to bulk import Employees from JSON");
+        BulkImportResultDTO result = new BulkImportResultDTO();
+        List<ImportRow> chunk = new ArrayList<>(CHUNK_SIZE);
+        try (JsonParser parser = objectMapper.getFactory().createParser(in)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                result.addError(0, "Expected a JSON array of employees");
+                return result;
+            }
+            long row = 0;
+            JsonToken token;
+            while ((token = parser.nextToken()) != JsonToken.END_ARRAY && token != null) {
+                row++;
+                if (token != JsonToken.START_OBJECT) {
+                    result.addError(row, "Expected a JSON object, found " + parser.getText());
+                    parser.skipChildren();
+                    continue;
+                }
+                try {
+                    JsonNode node = objectMapper.readTree(parser);
+                    addRow(chunk, result, row, objectMapper.treeToValue(node, Employee.class));
+                } catch (JsonParseException e) {
+                    // the input is not well-formed, the following rows can't be located
+                    result.addError(row, e.getOriginalMessage());
+                    break;
+                } catch (JsonProcessingException | IllegalArgumentException e) {
+                    result.addError(row, NestedExceptionUtils.getMostSpecificCause(e).getMessage());
+                }
+                if (chunk.size() >= CHUNK_SIZE) {
+                    saveChunk(chunk, result);
+                }
+            }
+        } catch (JsonParseException e) {
+            result.addError(0, e.getOriginalMessage());
+        }
+        saveChunk(chunk, result);
+        log.debug("Bulk import of Employees done: {}", result);
+        return result;
+    }
+
+    /**
+     * Import employees from a CSV document, separated by {@code ;} like the Liquibase fake data.
+     * <p>
+     * The first line is a header naming the columns among {@code name}, {@code first_name}, {@code address} and
+     * {@code competences}. Competences are written {@code name:level:categoryId}, separated by {@code |}, the level and
+     * the category being optional.
+     *
+     * @param reader the CSV input.
+     * @return the result of the import.
+     * @throws IOException if the input can't be read.
+     */
+    public BulkImportResultDTO importCsv(Reader reader) throws IOException {
+        log.debug("Request to bulk import Employees from CSV");
+        BulkImportResultDTO result = new BulkImportResultDTO();
+        List<ImportRow> chunk = new ArrayList<>(CHUNK_SIZE);
+        BufferedReader lines = new BufferedReader(reader);
+        String header = lines.readLine();
+        if (header == null) {
+            return result;
+        }
+        Map<String, Integer> columns = new HashMap<>();
+        List<String> headerFields = parseCsvLine(header);
+        for (int i = 0; i < headerFields.size(); i++) {
+            columns.put(headerFields.get(i).trim().toLowerCase(), i);
+        }
+        long row = 0;
+        String line;
+        while ((line = lines.readLine()) != null) {
+            row++;
+            if (line.isBlank()) {
+                continue;
+            }
+            try {
+                addRow(chunk, result, row, parseCsvEmployee(columns, parseCsvLine(line)));
+            } catch (IllegalArgumentException e) {
+                result.addError(row, e.getMessage());
+            }
+            if (chunk.size() >= CHUNK_SIZE) {
+                saveChunk(chunk, result);
+            }
+        }
+        saveChunk(chunk, result);
+        log.debug("Bulk import of Employees done: {}", result);
+        return result;
+    }
+
+    private void addRow(List<ImportRow> chunk, BulkImportResultDTO result, long row, Employee employee) {
+        String error = validate(employee);
+        if (error != null) {
+            result.addError(row, error);
+        } else {
+            chunk.add(new ImportRow(row, employee));
+        }
+    }
+
+    private String validate(Employee employee) {
+        if (employee.getId() != null) {
+            return "A new employee cannot already have an ID";
+        }
+        for (Competence competence : employee.getCompetences()) {
+            if (competence.getId() != null) {
+                return "A new competence cannot already have an ID";
+            }
+            if (competence.getCategory() != null && competence.getCategory().getId() == null) {
+                return "A competence category must be referenced by its ID";
+            }
+        }
+        return null;
+    }
+
+    private void saveChunk(List<ImportRow> chunk, BulkImportResultDTO result) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> persist(chunk));
+            result.addImported(chunk.size());
+        } catch (RuntimeException e) {
+            log.debug("Bulk import chunk failed, retrying its {} rows one by one: {}", chunk.size(), e.getMessage());
+            for (ImportRow importRow : chunk) {
+                importRow.resetIds();
+                try {
+                    transactionTemplate.executeWithoutResult(status -> persist(List.of(importRow)));
+                    result.addImported(1);
+                } catch (RuntimeException rowException) {
+                    result.addError(importRow.row, NestedExceptionUtils.getMostSpecificCause(rowException).getMessage());
+                }
+            }
+        }
+        chunk.clear();
+    }
+
+    private void persist(List<ImportRow> rows) {
+        int count = 0;
+        for (ImportRow importRow : rows) {
+            Employee employee = importRow.employee;
+            entityManager.persist(employee);
+            for (Competence competence : employee.getCompetences()) {
+                if (competence.getCategory() != null) {
+                    competence.setCategory(entityManager.getReference(Category.class, competence.getCategory().getId()));
+                }
+                entityManager.persist(competence);
+            }
+            if (++count % batchSize == 0) {
+                flushAndClear();
+            }
+        }
+        flushAndClear();
+    }
+
+    /**
+     * Full-text index documents are built before the persistence context is cleared, so that they do not pile up
+     * until the end of the transaction.
+     */
+    private void flushAndClear() {
+        entityManager.flush();
+        Search.session(entityManager).indexingPlan().process();
+        entityManager.clear();
+    }
+
+    private Employee parseCsvEmployee(Map<String, Integer> columns, List<String> fields) {
+        Employee employee = new Employee()
+            .name(csvField(columns, fields, "name"))
+            .firstName(csvField(columns, fields, "first_name"))
+            .address(csvField(columns, fields, "address"));
+        String competences = csvField(columns, fields, "competences");
+        if (competences != null) {
+            for (String value : competences.split(CSV_COMPETENCE_SEPARATOR)) {
+                if (!value.isBlank()) {
+                    employee.addCompetence(parseCsvCompetence(value));
+                }
+            }
+        }
+        return employee;
+    }
+
+    private Competence parseCsvCompetence(String value) {
+        String[] parts = value.split(CSV_COMPETENCE_FIELD_SEPARATOR, -1);
+        Competence competence = new Competence().name(parts[0].trim());
+        try {
+            if (parts.length > 1 && !parts[1].isBlank()) {
+                competence.setLevel(Integer.valueOf(parts[1].trim()));
+            }
+            if (parts.length > 2 && !parts[2].isBlank()) {
+                competence.setCategory(new Category().id(Long.valueOf(parts[2].trim())));
+            }
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid competence '" + value + "': " + e.getMessage());
+        }
+        return competence;
+    }
+
+    private String csvField(Map<String, Integer> columns, List<String> fields, String column) {
+        Integer index = columns.get(column);
+        if (index == null || index >= fields.size() || fields.get(index).isEmpty()) {
+            return null;
+        }
+        return fields.get(index);
+    }
+
+    /**
+     * Split a CSV line; fields may be quoted with {@code "}, a quote being escaped by doubling it.
+     */
+    private List<String> parseCsvLine(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == CSV_SEPARATOR) {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("Unterminated quoted field");
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    private static final class ImportRow {
+
+        private final long row;
+
+        private final Employee employee;
+
+        private ImportRow(long row, Employee employee) {
+            this.row = row;
+            this.employee = employee;
+        }
+
+        /**
+         * Identifiers assigned during a rolled back transaction must not be reused.
+         */
+        private void resetIds() {
+            employee.setId(null);
+            employee.getCompetences().forEach(competence -> competence.setId(null));
+        }
+    }
+}
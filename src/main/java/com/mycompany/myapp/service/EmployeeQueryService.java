@@ -0,0 +1,224 @@
+package com.mycompany.myapp.service;
+
+import com.mycompany.myapp.domain.*; // for static metamodels
+import com.mycompany.myapp.domain.Employee;
+import com.mycompany.myapp.repository.EmployeeRepository;
+import com.mycompany.myapp.service.criteria.CategoryCriteria;
+import com.mycompany.myapp.service.criteria.CompetenceCriteria;
+import com.mycompany.myapp.service.criteria.EmployeeCriteria;
+import com.mycompany.myapp.service.dto.EmployeeDTO;
+import java.util.List;
+import javax.persistence.EntityManager;
+import javax.persistence.TypedQuery;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Join;
+import javax.persistence.criteria.JoinType;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import tech.jhipster.service.QueryService;
+
+/**
+ * Service for executing complex queries for {@link Employee} entities in the database.
+ * The main input is a {@link EmployeeCriteria} which gets converted to {@link Specification},
+ * in a way that all the filters must apply.
+ * It returns a {@link Page} or a {@link Slice} of {@link EmployeeDTO} which fulfills the criteria, selected with a
+ * constructor expression so that no entity is loaded in the persistence context.
+ * <p>
+ * The competence and category filters share a single join of the competences, and of their category, so that
+ * a request is translated into one SQL query whatever the number of filters.
+ */
+@Service
+@Transactional(readOnly = true)
+public class EmployeeQueryService extends QueryService<Employee> {
+
+    private final Logger log = LoggerFactory.getLogger(EmployeeQueryService.class);
+
+    private final EmployeeRepository employeeRepository;
+
+    private final EntityManager entityManager;
+
+    public EmployeeQueryService(EmployeeRepository employeeRepository, EntityManager entityManager) {
+        this.employeeRepository = employeeRepository;
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * Return a {@link Page} of {@link EmployeeDTO} which matches the criteria from the database.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param page The page, which should be returned.
+     * @return the matching entities.
+     */
+    public Page<EmployeeDTO> findByCriteria(EmployeeCriteria criteria, Pageable page) {
+        log.debug("find by criteria : {}, page: {}", criteria, page);
+        Specification<Employee> specification = createSpecification(criteria);
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<EmployeeDTO> query = selectEmployees(builder, specification);
+        query.orderBy(QueryUtils.toOrders(page.getSort(), query.getRoots().iterator().next(), builder));
+        TypedQuery<EmployeeDTO> typedQuery = entityManager.createQuery(query);
+        if (page.isPaged()) {
+            typedQuery.setFirstResult((int) page.getOffset()).setMaxResults(page.getPageSize());
+        }
+        return PageableExecutionUtils.getPage(typedQuery.getResultList(), page, () -> employeeRepository.count(specification));
+    }
+
+    /**
+     * Return a {@link Slice} of {@link EmployeeDTO} which matches the criteria from the database, in keyset (seek) mode:
+     * only the employees with an id greater than {@code after} are returned, ordered by id, and no count query is issued.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param after the id of the last employee of the previous slice.
+     * @param size the maximum number of employees to return.
+     * @return the matching entities.
+     */
+    public Slice<EmployeeDTO> findByCriteriaAfter(EmployeeCriteria criteria, long after, int size) {
+        log.debug("find by criteria : {}, after: {}", criteria, after);
+        Specification<Employee> specification = createSpecification(criteria)
+            .and((root, query, builder) -> builder.greaterThan(root.get(Employee_.id), after));
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<EmployeeDTO> query = selectEmployees(builder, specification);
+        query.orderBy(builder.asc(query.getRoots().iterator().next().get(Employee_.id)));
+        // one more employee than asked for tells whether there is a next slice
+        List<EmployeeDTO> employees = entityManager.createQuery(query).setMaxResults(size + 1).getResultList();
+        boolean hasNext = employees.size() > size;
+        return new SliceImpl<>(
+            hasNext ? employees.subList(0, size) : employees,
+            PageRequest.of(0, size, Sort.by(Sort.Direction.ASC, "id")),
+            hasNext
+        );
+    }
+
+    /**
+     * Return the number of matching entities in the database.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @return the number of matching entities.
+     */
+    public long countByCriteria(EmployeeCriteria criteria) {
+        log.debug("count by criteria : {}", criteria);
+        return employeeRepository.count(createSpecification(criteria));
+    }
+
+    /**
+     * Function to convert {@link EmployeeCriteria} to a {@link Specification}
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @return the matching {@link Specification} of the entity.
+     */
+    protected Specification<Employee> createSpecification(EmployeeCriteria criteria) {
+        Specification<Employee> specification = Specification.where(null);
+        if (criteria == null) {
+            return specification;
+        }
+        if (criteria.hasCompetenceFilters()) {
+            // an employee is returned once per matching competence by the join
+            specification = specification.and(distinct(true));
+        }
+        if (criteria.getId() != null) {
+            specification = specification.and(buildRangeSpecification(criteria.getId(), Employee_.id));
+        }
+        if (criteria.getName() != null) {
+            specification = specification.and(buildStringSpecification(criteria.getName(), Employee_.name));
+        }
+        if (criteria.getFirstName() != null) {
+            specification = specification.and(buildStringSpecification(criteria.getFirstName(), Employee_.firstName));
+        }
+        if (criteria.getAddress() != null) {
+            specification = specification.and(buildStringSpecification(criteria.getAddress(), Employee_.address));
+        }
+        CompetenceCriteria competence = criteria.getCompetence();
+        if (competence != null) {
+            if (competence.getId() != null) {
+                specification = specification.and(buildSpecification(competence.getId(), root -> competences(root).get(Competence_.id)));
+            }
+            if (competence.getName() != null) {
+                specification =
+                    specification.and(buildSpecification(competence.getName(), root -> competences(root).get(Competence_.name)));
+            }
+            if (competence.getLevel() != null) {
+                specification =
+                    specification.and(buildSpecification(competence.getLevel(), root -> competences(root).get(Competence_.level)));
+            }
+            if (competence.getCategoryId() != null) {
+                specification =
+                    specification.and(
+                        buildSpecification(competence.getCategoryId(), root -> competences(root).get(Competence_.category).get(Category_.id))
+                    );
+            }
+            if (competence.getEmployeeId() != null) {
+                specification =
+                    specification.and(
+                        buildSpecification(competence.getEmployeeId(), root -> competences(root).get(Competence_.employee).get(Employee_.id))
+                    );
+            }
+        }
+        CategoryCriteria category = criteria.getCategory();
+        if (category != null) {
+            if (category.getId() != null) {
+                specification = specification.and(buildSpecification(category.getId(), root -> categories(root).get(Category_.id)));
+            }
+            if (category.getName() != null) {
+                specification = specification.and(buildSpecification(category.getName(), root -> categories(root).get(Category_.name)));
+            }
+        }
+        return specification;
+    }
+
+    private CriteriaQuery<EmployeeDTO> selectEmployees(CriteriaBuilder builder, Specification<Employee> specification) {
+        CriteriaQuery<EmployeeDTO> query = builder.createQuery(EmployeeDTO.class);
+        Root<Employee> root = query.from(Employee.class);
+        query.select(
+            builder.construct(
+                EmployeeDTO.class,
+                root.get(Employee_.id),
+                root.get(Employee_.name),
+                root.get(Employee_.firstName),
+                root.get(Employee_.address)
+            )
+        );
+        Predicate predicate = specification.toPredicate(root, query, builder);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        return query;
+    }
+
+    /**
+     * The join of the competences, created by the first competence filter and reused by the following ones.
+     */
+    @SuppressWarnings("unchecked")
+    private static Join<Employee, Competence> competences(Root<Employee> root) {
+        return root
+            .getJoins()
+            .stream()
+            .filter(join -> Employee_.competences.equals(join.getAttribute()))
+            .map(join -> (Join<Employee, Competence>) join)
+            .findFirst()
+            .orElseGet(() -> root.join(Employee_.competences, JoinType.LEFT));
+    }
+
+    /**
+     * The join of the category of the competences, created by the first category filter and reused by the following ones.
+     */
+    @SuppressWarnings("unchecked")
+    private static Join<Competence, Category> categories(Root<Employee> root) {
+        Join<Employee, Competence> competences = competences(root);
+        return competences
+            .getJoins()
+            .stream()
+            .filter(join -> Competence_.category.equals(join.getAttribute()))
+            .map(join -> (Join<Competence, Category>) join)
+            .findFirst()
+            .orElseGet(() -> competences.join(Competence_.category, JoinType.LEFT));
+    }
+}
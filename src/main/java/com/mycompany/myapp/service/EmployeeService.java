@@ -0,0 +1,144 @@
+package com.mycompany.myapp.service;
+
+import com.mycompany.myapp.domain.Employee;
+import com.mycompany.myapp.service.dto.CompetenceDTO;
+import com.mycompany.myapp.service.dto.EmployeeDTO;
+import com.mycompany.myapp.service.dto.VersionDTO;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import javax.persistence.EntityManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Service for reading {@link Employee}s as {@link EmployeeDTO}s.
+ * <p>
+ * A single employee is loaded by id, so it is served from the second-level cache; lists of employees and their
+ * competences are read with JPQL constructor expressions, which no cache would serve. The transactions are read-only,
+ * so the loaded entities are neither dirty checked nor flushed.
+ */
+@Service
+@Transactional(readOnly = true)
+public class EmployeeService {
+
+    private final Logger log = LoggerFactory.getLogger(EmployeeService.class);
+
+    private static final String SELECT_EMPLOYEE =
+        "select new com.mycompany.myapp.service.dto.EmployeeDTO(employee.id, employee.name, employee.firstName, employee.address) ";
+
+    private static final String SELECT_COMPETENCE =
+        "select new com.mycompany.myapp.service.dto.CompetenceDTO(competence.id, competence.name, competence.level, " +
+        "competence.employee.id) from Competence competence ";
+
+    private static final String SELECT_COMPETENCE_WITH_CATEGORY =
+        "select new com.mycompany.myapp.service.dto.CompetenceDTO(competence.id, competence.name, competence.level, " +
+        "competence.employee.id, category.id, category.name) from Competence competence left join competence.category category ";
+
+    private final EntityManager entityManager;
+
+    public EmployeeService(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * Get one employee by id.
+     *
+     * @param id the id of the entity.
+     * @return the entity.
+     */
+    public Optional<EmployeeDTO> findOne(Long id) {
+        log.debug("Request to get Employee : {}", id);
+        return Optional
+            .ofNullable(entityManager.find(Employee.class, id))
+            .map(employee -> new EmployeeDTO(employee.getId(), employee.getName(), employee.getFirstName(), employee.getAddress()));
+    }
+
+    /**
+     * Get the version of an employee, with a single aggregate query.
+     *
+     * @param id the id of the entity.
+     * @param withCompetences {@code true} if the competences are part of the representation.
+     * @param withCategories {@code true} if the categories of the competences are part of the representation.
+     * @return the version, or empty if there is no such employee.
+     */
+    public Optional<VersionDTO> findVersion(Long id, boolean withCompetences, boolean withCategories) {
+        if (!withCompetences) {
+            return entityManager
+                .createQuery(
+                    "select employee.version, employee.lastModifiedDate from Employee employee where employee.id = :id",
+                    Object[].class
+                )
+                .setParameter("id", id)
+                .getResultStream()
+                .findFirst()
+                .map(row -> VersionDTO.of((Long) row[0], (Instant) row[1]));
+        }
+        return entityManager
+            .createQuery(
+                "select employee.lastModifiedDate, max(competence.lastModifiedDate), count(competence), max(category.lastModifiedDate) " +
+                "from Employee employee left join employee.competences competence left join competence.category category " +
+                "where employee.id = :id group by employee.id, employee.lastModifiedDate",
+                Object[].class
+            )
+            .setParameter("id", id)
+            .getResultStream()
+            .findFirst()
+            .map(row ->
+                VersionDTO.ofAll(
+                    1 + (Long) row[2],
+                    (Instant) row[0],
+                    (Instant) row[1],
+                    withCategories ? (Instant) row[3] : null
+                )
+            );
+    }
+
+    /**
+     * Get employees by id.
+     *
+     * @param ids the ids of the entities.
+     * @return the existing entities, in the order of their ids.
+     */
+    public List<EmployeeDTO> findAllById(List<Long> ids) {
+        log.debug("Request to get Employees : {}", ids);
+        if (ids.isEmpty()) {
+            return new ArrayList<>();
+        }
+        Map<Long, EmployeeDTO> employees = entityManager
+            .createQuery(SELECT_EMPLOYEE + "from Employee employee where employee.id in :ids", EmployeeDTO.class)
+            .setParameter("ids", ids)
+            .getResultStream()
+            .collect(Collectors.toMap(EmployeeDTO::getId, Function.identity()));
+        return ids.stream().map(employees::get).filter(Objects::nonNull).collect(Collectors.toList());
+    }
+
+    /**
+     * Set the competences of employees, with a single query.
+     *
+     * @param employees the employees.
+     * @param withCategories {@code true} to also set the category of the competences.
+     */
+    public void fetchCompetences(Collection<EmployeeDTO> employees, boolean withCategories) {
+        if (employees.isEmpty()) {
+            return;
+        }
+        Map<Long, EmployeeDTO> employeesById = employees.stream().collect(Collectors.toMap(EmployeeDTO::getId, Function.identity()));
+        employees.forEach(employee -> employee.setCompetences(new LinkedHashSet<>()));
+        String select = withCategories ? SELECT_COMPETENCE_WITH_CATEGORY : SELECT_COMPETENCE;
+        entityManager
+            .createQuery(select + "where competence.employee.id in :ids order by competence.id", CompetenceDTO.class)
+            .setParameter("ids", employeesById.keySet())
+            .getResultStream()
+            .forEach(competence -> employeesById.get(competence.getEmployee().getId()).getCompetences().add(competence));
+    }
+}
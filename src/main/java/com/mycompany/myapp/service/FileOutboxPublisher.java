@@ -0,0 +1,50 @@
+package com.mycompany.myapp.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mycompany.myapp.config.ApplicationProperties;
+import com.mycompany.myapp.service.dto.OutboxEventDTO;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+/**
+ * {@link OutboxPublisher} appending the events to a local file, one JSON document per line, for tests and local
+ * development.
+ */
+@Service
+@ConditionalOnProperty(prefix = "application.outbox", name = "publisher", havingValue = "file")
+public class FileOutboxPublisher implements OutboxPublisher {
+
+    private final Path file;
+
+    private final ObjectMapper objectMapper;
+
+    public FileOutboxPublisher(ApplicationProperties applicationProperties, ObjectMapper objectMapper) {
+        this.file = Path.of(applicationProperties.getOutbox().getFile());
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public synchronized void publish(List<OutboxEventDTO> events) {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            Writer writer = Channels.newWriter(channel, StandardCharsets.UTF_8);
+            for (OutboxEventDTO event : events) {
+                writer.write(objectMapper.writeValueAsString(event));
+                writer.write('\n');
+            }
+            writer.flush();
+            // the events are deleted from the outbox once this returns
+            channel.force(false);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not append the outbox events to " + file, e);
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package com.mycompany.myapp.service;
+
+import com.mycompany.myapp.config.ApplicationProperties;
+import com.mycompany.myapp.domain.Competence;
+import com.mycompany.myapp.domain.Employee;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import org.hibernate.search.engine.search.common.BooleanOperator;
+import org.hibernate.search.engine.search.query.SearchResult;
+import org.hibernate.search.mapper.orm.Search;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Service for the full-text search of {@link Employee}s and {@link Competence}s, with Hibernate Search and local
+ * Lucene indexes.
+ * <p>
+ * Indexes are updated by Hibernate Search on every committed write of an entity. Queries use the simple query string
+ * syntax ({@code +}, {@code |}, {@code -}, quotes, {@code *} for prefixes and {@code ~} for fuzziness), all the terms
+ * being required by default, and results are sorted by relevance.
+ */
+@Service
+@Transactional(readOnly = true)
+public class FullTextSearchService {
+
+    private final Logger log = LoggerFactory.getLogger(FullTextSearchService.class);
+
+    private static final int MASS_INDEXING_BATCH_SIZE = 100;
+
+    private final EntityManager entityManager;
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    private final int massIndexingThreads;
+
+    private Instant rebuildStart;
+
+    private Instant rebuildEnd;
+
+    private String rebuildFailure;
+
+    public FullTextSearchService(
+        EntityManager entityManager,
+        EntityManagerFactory entityManagerFactory,
+        ApplicationProperties applicationProperties
+    ) {
+        this.entityManager = entityManager;
+        this.entityManagerFactory = entityManagerFactory;
+        this.massIndexingThreads = applicationProperties.getSearch().getMassIndexingThreads();
+    }
+
+    /**
+     * Search the employees by name, first name, address and competence names. Only the ids are read from the index,
+     * the employees are not loaded.
+     *
+     * @param query the query.
+     * @param pageable the pagination information, the sort is ignored.
+     * @return the page of the ids of the matching employees, the most relevant first.
+     */
+    public Page<Long> searchEmployeeIds(String query, Pageable pageable) {
+        log.debug("Request to search for a page of Employees for query {}", query);
+        SearchResult<Long> result = Search
+            .session(entityManager)
+            .search(Employee.class)
+            .select(f -> f.id(Long.class))
+            .where(f ->
+                f
+                    .simpleQueryString()
+                    .field("name")
+                    .boost(2.0f)
+                    .fields("firstName", "address", "competences.name")
+                    .matching(query)
+                    .defaultOperator(BooleanOperator.AND)
+            )
+            .fetch((int) pageable.getOffset(), pageable.getPageSize());
+        return new PageImpl<>(result.hits(), pageable, result.total().hitCount());
+    }
+
+    /**
+     * Search the competences by name. Only the ids are read from the index, the competences are not loaded.
+     *
+     * @param query the query.
+     * @param pageable the pagination information, the sort is ignored.
+     * @return the page of the ids of the matching competences, the most relevant first.
+     */
+    public Page<Long> searchCompetenceIds(String query, Pageable pageable) {
+        log.debug("Request to search for a page of Competences for query {}", query);
+        SearchResult<Long> result = Search
+            .session(entityManager)
+            .search(Competence.class)
+            .select(f -> f.id(Long.class))
+            .where(f -> f.simpleQueryString().field("name").matching(query).defaultOperator(BooleanOperator.AND))
+            .fetch((int) pageable.getOffset(), pageable.getPageSize());
+        return new PageImpl<>(result.hits(), pageable, result.total().hitCount());
+    }
+
+    /**
+     * Rebuild the indexes from the database, in the background: the indexes are purged, then entities are loaded by
+     * several threads and indexed, searches returning partial results until the rebuild is complete.
+     *
+     * @return {@code false} if a rebuild is already running.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public synchronized boolean rebuildIndexes() {
+        if (isRebuilding()) {
+            return false;
+        }
+        log.info("Rebuilding the full-text indexes with {} threads", massIndexingThreads);
+        rebuildStart = Instant.now();
+        rebuildEnd = null;
+        rebuildFailure = null;
+        Search
+            .mapping(entityManagerFactory)
+            .scope(List.of(Employee.class, Competence.class))
+            .massIndexer()
+            .threadsToLoadObjects(massIndexingThreads)
+            .batchSizeToLoadObjects(MASS_INDEXING_BATCH_SIZE)
+            .start()
+            .whenComplete((result, throwable) -> rebuildCompleted(throwable));
+        return true;
+    }
+
+    private synchronized void rebuildCompleted(Throwable throwable) {
+        rebuildEnd = Instant.now();
+        if (throwable != null) {
+            log.error("Rebuild of the full-text indexes failed", throwable);
+            rebuildFailure = String.valueOf(throwable.getMessage());
+        } else {
+            log.info("Full-text indexes rebuilt in {} ms", Duration.between(rebuildStart, rebuildEnd).toMillis());
+        }
+    }
+
+    private boolean isRebuilding() {
+        return rebuildStart != null && rebuildEnd == null;
+    }
+
+    /**
+     * @return the state of the last rebuild of the indexes.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public synchronized Map<String, Object> getRebuildStatus() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("running", isRebuilding());
+        status.put("lastStart", rebuildStart);
+        status.put("lastEnd", rebuildEnd);
+        if (rebuildStart != null && rebuildEnd != null) {
+            status.put("lastDurationMs", Duration.between(rebuildStart, rebuildEnd).toMillis());
+        }
+        status.put("lastFailure", rebuildFailure);
+        return status;
+    }
+}
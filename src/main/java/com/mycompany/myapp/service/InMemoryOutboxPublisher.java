@@ -0,0 +1,33 @@
+package com.mycompany.myapp.service;
+
+import com.mycompany.myapp.service.dto.OutboxEventDTO;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+/**
+ * {@link OutboxPublisher} keeping the events in memory, for tests.
+ */
+@Service
+@ConditionalOnProperty(prefix = "application.outbox", name = "publisher", havingValue = "memory")
+public class InMemoryOutboxPublisher implements OutboxPublisher {
+
+    private final List<OutboxEventDTO> events = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(List<OutboxEventDTO> events) {
+        this.events.addAll(events);
+    }
+
+    /**
+     * @return the published events, in the order they were published.
+     */
+    public List<OutboxEventDTO> getEvents() {
+        return List.copyOf(events);
+    }
+
+    public void clear() {
+        events.clear();
+    }
+}
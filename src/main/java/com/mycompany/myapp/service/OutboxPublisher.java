@@ -0,0 +1,20 @@
+package com.mycompany.myapp.service;
+
+import com.mycompany.myapp.service.dto.OutboxEventDTO;
+import java.util.List;
+
+/**
+ * Publisher of the change events of the outbox to downstream systems, selected with {@code application.outbox.publisher}.
+ * <p>
+ * Events are delivered at least once: a batch is deleted from the outbox only once published, and the whole batch is
+ * published again if an event fails. Consumers should deduplicate events by id.
+ */
+public interface OutboxPublisher {
+    /**
+     * Publish events.
+     *
+     * @param events the events, ordered by id.
+     * @throws RuntimeException if the events could not all be published.
+     */
+    void publish(List<OutboxEventDTO> events);
+}
@@ -0,0 +1,128 @@
+package com.mycompany.myapp.service;
+
+import com.mycompany.myapp.config.ApplicationProperties;
+import com.mycompany.myapp.service.dto.OutboxEventDTO;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Service relaying the events of the outbox to the {@link OutboxPublisher}, every
+ * {@code application.outbox.relay-interval}; nothing is relayed when no publisher is configured.
+ * <p>
+ * The outbox is drained by batches of {@code application.outbox.batch-size} events, each batch in its own transaction:
+ * the events are locked with {@code FOR UPDATE SKIP LOCKED}, published, then deleted. Several instances of the
+ * application can relay concurrently without publishing an event twice, as each one skips the events locked by the
+ * others, though the events of different batches may then be published out of order. H2, which does not support
+ * {@code SKIP LOCKED}, waits for the locks instead.
+ */
+@Service
+public class OutboxRelay {
+
+    private final Logger log = LoggerFactory.getLogger(OutboxRelay.class);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final ObjectProvider<OutboxPublisher> publisher;
+
+    private final int batchSize;
+
+    private String selectEvents;
+
+    public OutboxRelay(
+        JdbcTemplate jdbcTemplate,
+        PlatformTransactionManager transactionManager,
+        ObjectProvider<OutboxPublisher> publisher,
+        ApplicationProperties applicationProperties
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.publisher = publisher;
+        this.batchSize = applicationProperties.getOutbox().getBatchSize();
+    }
+
+    @Scheduled(
+        fixedDelayString = "${application.outbox.relay-interval:PT1S}",
+        initialDelayString = "${application.outbox.relay-interval:PT1S}"
+    )
+    public void scheduledRelay() {
+        if (publisher.getIfAvailable() == null) {
+            return;
+        }
+        try {
+            relay();
+        } catch (RuntimeException e) {
+            // the events stay in the outbox until the next relay
+            log.warn("Could not relay the outbox events: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Publish the events of the outbox until it is empty, or until the next events are locked by another relay.
+     *
+     * @return the number of published events.
+     */
+    public long relay() {
+        OutboxPublisher outboxPublisher = publisher.getObject();
+        long relayed = 0;
+        int batch;
+        do {
+            batch = transactionTemplate.execute(status -> relayBatch(outboxPublisher));
+            relayed += batch;
+        } while (batch == batchSize);
+        if (relayed > 0) {
+            log.debug("Relayed {} outbox events", relayed);
+        }
+        return relayed;
+    }
+
+    private int relayBatch(OutboxPublisher outboxPublisher) {
+        List<OutboxEventDTO> events = jdbcTemplate.query(selectEvents(), this::toEvent, batchSize);
+        if (events.isEmpty()) {
+            return 0;
+        }
+        outboxPublisher.publish(events);
+        jdbcTemplate.batchUpdate(
+            "delete from outbox_event where id = ?",
+            events.stream().map(event -> new Object[] { event.getId() }).collect(Collectors.toList())
+        );
+        return events.size();
+    }
+
+    private String selectEvents() {
+        if (selectEvents == null) {
+            String database = jdbcTemplate.execute((Connection connection) ->
+                JdbcUtils.commonDatabaseName(connection.getMetaData().getDatabaseProductName())
+            );
+            selectEvents =
+                "select id, aggregate_type, aggregate_id, event_type, payload, created_date from outbox_event " +
+                "order by id limit ? for update" +
+                ("H2".equals(database) ? "" : " skip locked");
+        }
+        return selectEvents;
+    }
+
+    private OutboxEventDTO toEvent(ResultSet resultSet, int rowNum) throws SQLException {
+        return new OutboxEventDTO(
+            resultSet.getLong("id"),
+            resultSet.getString("aggregate_type"),
+            resultSet.getLong("aggregate_id"),
+            OutboxEventDTO.Type.valueOf(resultSet.getString("event_type")),
+            resultSet.getString("payload"),
+            resultSet.getTimestamp("created_date", OutboxService.utcCalendar()).toInstant()
+        );
+    }
+}
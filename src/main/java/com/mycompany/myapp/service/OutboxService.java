@@ -0,0 +1,243 @@
+package com.mycompany.myapp.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mycompany.myapp.config.ApplicationProperties;
+import com.mycompany.myapp.domain.Category;
+import com.mycompany.myapp.domain.Competence;
+import com.mycompany.myapp.domain.Employee;
+import com.mycompany.myapp.service.dto.OutboxEventDTO;
+import java.io.UncheckedIOException;
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TimeZone;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.annotation.PostConstruct;
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import org.hibernate.action.spi.AfterTransactionCompletionProcess;
+import org.hibernate.action.spi.BeforeTransactionCompletionProcess;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventSource;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.internal.SessionFactoryImpl;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+/**
+ * Service writing the change events of {@link Employee}s, {@link Competence}s and {@link Category}s to the outbox
+ * table, in the transaction of the change, so that downstream systems get them without a dual write.
+ * <p>
+ * Hibernate listeners collect the events of a session as its changes are flushed, and the events are inserted as
+ * one JDBC batch just before the transaction commits, after its last flush; a rolled back transaction writes no
+ * event. Writes that bypass Hibernate events (bulk JPQL or SQL statements) must call {@link #append}. The events
+ * are then published by the {@link OutboxRelay}.
+ * <p>
+ * Without a publisher ({@code application.outbox.publisher} unset or empty) nothing would drain the outbox, so no event is
+ * written at all.
+ */
+@Service
+public class OutboxService {
+
+    private static final String INSERT_EVENT =
+        "insert into outbox_event (aggregate_type, aggregate_id, event_type, payload, created_date) values (?, ?, ?, ?, ?)";
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    private final EntityManager entityManager;
+
+    private final ObjectMapper objectMapper;
+
+    private final boolean enabled;
+
+    private final Map<EventSource, List<OutboxEventDTO>> pendingEvents = new ConcurrentHashMap<>();
+
+    public OutboxService(
+        EntityManagerFactory entityManagerFactory,
+        EntityManager entityManager,
+        ObjectMapper objectMapper,
+        ApplicationProperties applicationProperties
+    ) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+        this.enabled = StringUtils.hasText(applicationProperties.getOutbox().getPublisher());
+    }
+
+    @PostConstruct
+    public void registerListeners() {
+        if (!enabled) {
+            return;
+        }
+        EventListenerRegistry registry = entityManagerFactory
+            .unwrap(SessionFactoryImpl.class)
+            .getServiceRegistry()
+            .getService(EventListenerRegistry.class);
+        OutboxListener listener = new OutboxListener();
+        registry.appendListeners(EventType.POST_INSERT, listener);
+        registry.appendListeners(EventType.POST_UPDATE, listener);
+        registry.appendListeners(EventType.POST_DELETE, listener);
+    }
+
+    /**
+     * Add the events of entities changed without Hibernate events to the current transaction.
+     *
+     * @param entityClass the class of the entities.
+     * @param ids the ids of the entities.
+     * @param type the type of change; only deletions are supported, other changes having to go through Hibernate.
+     */
+    public void append(Class<?> entityClass, Collection<Long> ids, OutboxEventDTO.Type type) {
+        if (type != OutboxEventDTO.Type.DELETED) {
+            throw new IllegalArgumentException("Only deletions can be appended, other changes must go through Hibernate");
+        }
+        if (!enabled) {
+            return;
+        }
+        EventSource session = entityManager.unwrap(EventSource.class);
+        ids.forEach(id -> add(session, event(entityClass.getSimpleName(), id, type, idPayload(id))));
+    }
+
+    private void add(EventSource session, OutboxEventDTO event) {
+        pendingEvents
+            .computeIfAbsent(
+                session,
+                key -> {
+                    session
+                        .getActionQueue()
+                        .registerProcess(
+                            (BeforeTransactionCompletionProcess) completing -> write(completing, pendingEvents.remove(session))
+                        );
+                    // cleans up after a rollback, when the events are not written
+                    session
+                        .getActionQueue()
+                        .registerProcess((AfterTransactionCompletionProcess) (success, completed) -> pendingEvents.remove(session));
+                    return new ArrayList<>();
+                }
+            )
+            .add(event);
+    }
+
+    private void write(SessionImplementor session, List<OutboxEventDTO> events) {
+        if (events == null || events.isEmpty()) {
+            return;
+        }
+        session.doWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(INSERT_EVENT)) {
+                for (OutboxEventDTO event : events) {
+                    statement.setString(1, event.getAggregateType());
+                    statement.setLong(2, event.getAggregateId());
+                    statement.setString(3, event.getType().name());
+                    statement.setString(4, event.getPayload());
+                    statement.setTimestamp(5, Timestamp.from(event.getCreatedDate()), utcCalendar());
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+            }
+        });
+    }
+
+    /**
+     * @return the calendar of the outbox dates, a new one for every statement as JDBC drivers may modify it.
+     */
+    static Calendar utcCalendar() {
+        return Calendar.getInstance(TimeZone.getTimeZone("UTC"));
+    }
+
+    private OutboxEventDTO event(String aggregateType, Long id, OutboxEventDTO.Type type, Map<String, Object> payload) {
+        try {
+            return new OutboxEventDTO(null, aggregateType, id, type, objectMapper.writeValueAsString(payload), Instant.now());
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static Map<String, Object> idPayload(Long id) {
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("id", id);
+        return payload;
+    }
+
+    /**
+     * @return the state of an entity, or {@code null} if its changes are not published.
+     */
+    private static Map<String, Object> payload(Object entity) {
+        if (entity instanceof Employee) {
+            Employee employee = (Employee) entity;
+            Map<String, Object> payload = idPayload(employee.getId());
+            payload.put("name", employee.getName());
+            payload.put("firstName", employee.getFirstName());
+            payload.put("address", employee.getAddress());
+            return payload;
+        }
+        if (entity instanceof Competence) {
+            Competence competence = (Competence) entity;
+            Map<String, Object> payload = idPayload(competence.getId());
+            payload.put("name", competence.getName());
+            payload.put("level", competence.getLevel());
+            payload.put("categoryId", competence.getCategory() == null ? null : competence.getCategory().getId());
+            payload.put("employeeId", competence.getEmployee() == null ? null : competence.getEmployee().getId());
+            return payload;
+        }
+        if (entity instanceof Category) {
+            Category category = (Category) entity;
+            Map<String, Object> payload = idPayload(category.getId());
+            payload.put("name", category.getName());
+            return payload;
+        }
+        return null;
+    }
+
+    /**
+     * Collects the events of the flushed changes.
+     */
+    private final class OutboxListener implements PostInsertEventListener, PostUpdateEventListener, PostDeleteEventListener {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void onPostInsert(PostInsertEvent event) {
+            onChange(event.getSession(), event.getEntity(), OutboxEventDTO.Type.CREATED);
+        }
+
+        @Override
+        public void onPostUpdate(PostUpdateEvent event) {
+            onChange(event.getSession(), event.getEntity(), OutboxEventDTO.Type.UPDATED);
+        }
+
+        @Override
+        public void onPostDelete(PostDeleteEvent event) {
+            if (payload(event.getEntity()) != null) {
+                Long id = (Long) event.getId();
+                String aggregateType = event.getEntity().getClass().getSimpleName();
+                add(event.getSession(), event(aggregateType, id, OutboxEventDTO.Type.DELETED, idPayload(id)));
+            }
+        }
+
+        private void onChange(EventSource session, Object entity, OutboxEventDTO.Type type) {
+            Map<String, Object> payload = payload(entity);
+            if (payload != null) {
+                add(session, event(entity.getClass().getSimpleName(), (Long) payload.get("id"), type, payload));
+            }
+        }
+
+        @Override
+        public boolean requiresPostCommitHandling(EntityPersister persister) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,304 @@
+package com.mycompany.myapp.service;
+
+import com.mycompany.myapp.domain.Competence;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+/**
+ * Service searching employees by skill, with an in-memory inverted index of the {@link Competence}s.
+ * <p>
+ * For every competence name (case-insensitive), the index keeps the ids of the employees having it, grouped by their
+ * best level and sorted; a search on several skills intersects (AND) or merges (OR) those sorted lists, without any
+ * database access. The index is maintained by the {@link CompetenceIndexService}: writes only mark the per-skill lists
+ * as stale, and they are rebuilt on the next search of that skill, so bulk imports stay cheap.
+ */
+@Service
+public class SkillIndexService implements CompetenceIndex {
+
+    private final Logger log = LoggerFactory.getLogger(SkillIndexService.class);
+
+    private static final long[] NO_EMPLOYEES = new long[0];
+
+    /**
+     * Skills by normalized name.
+     */
+    private final Map<String, Skill> skills = new ConcurrentHashMap<>();
+
+    /**
+     * Indexed competences by id, to find their previous skill when they are updated or deleted.
+     */
+    private final Map<Long, Posting> postings = new HashMap<>();
+
+    @Override
+    public void clear() {
+        postings.clear();
+        skills.clear();
+    }
+
+    @Override
+    public void put(Entry entry) {
+        Posting posting = new Posting(
+            entry.getEmployeeId(),
+            SkillCriterion.normalize(entry.getName()),
+            entry.getLevel() == null ? Integer.MIN_VALUE : entry.getLevel()
+        );
+        Posting previous = postings.put(entry.getCompetenceId(), posting);
+        if (previous != null && !previous.skill.equals(posting.skill)) {
+            skills.get(previous.skill).remove(entry.getCompetenceId());
+        }
+        skills.computeIfAbsent(posting.skill, key -> new Skill()).put(entry.getCompetenceId(), posting);
+    }
+
+    @Override
+    public void remove(long competenceId) {
+        Posting previous = postings.remove(competenceId);
+        if (previous != null) {
+            skills.get(previous.skill).remove(competenceId);
+        }
+    }
+
+    /**
+     * Search the employees matching skill criteria.
+     *
+     * @param criteria the skills to look for.
+     * @param matchAll {@code true} if the employees must match all the criteria, {@code false} if any is enough.
+     * @return the ids of the matching employees, sorted in ascending order; the array must not be modified.
+     */
+    public long[] search(List<SkillCriterion> criteria, boolean matchAll) {
+        log.debug("Request to search Employees by skills : {}, all : {}", criteria, matchAll);
+        List<long[]> matches = new ArrayList<>(criteria.size());
+        for (SkillCriterion criterion : criteria) {
+            Skill skill = skills.get(criterion.getName());
+            long[] employeeIds = skill == null ? NO_EMPLOYEES : skill.employeesWithLevel(criterion.getMinLevel());
+            if (matchAll && employeeIds.length == 0) {
+                return NO_EMPLOYEES;
+            }
+            matches.add(employeeIds);
+        }
+        if (matches.isEmpty()) {
+            return NO_EMPLOYEES;
+        }
+        if (matchAll) {
+            // start with the most selective criteria, intersections only get smaller
+            matches.sort(Comparator.comparingInt(ids -> ids.length));
+        }
+        long[] result = matches.get(0);
+        for (int i = 1; i < matches.size(); i++) {
+            result = matchAll ? intersect(result, matches.get(i)) : union(result, matches.get(i));
+        }
+        return result;
+    }
+
+    private static long[] intersect(long[] left, long[] right) {
+        long[] result = new long[Math.min(left.length, right.length)];
+        int count = 0;
+        int i = 0;
+        int j = 0;
+        while (i < left.length && j < right.length) {
+            if (left[i] < right[j]) {
+                i++;
+            } else if (left[i] > right[j]) {
+                j++;
+            } else {
+                result[count++] = left[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(result, count);
+    }
+
+    private static long[] union(long[] left, long[] right) {
+        long[] result = new long[left.length + right.length];
+        int count = 0;
+        int i = 0;
+        int j = 0;
+        while (i < left.length || j < right.length) {
+            long next;
+            if (j == right.length || (i < left.length && left[i] < right[j])) {
+                next = left[i++];
+            } else if (i == left.length || right[j] < left[i]) {
+                next = right[j++];
+            } else {
+                next = left[i++];
+                j++;
+            }
+            result[count++] = next;
+        }
+        return Arrays.copyOf(result, count);
+    }
+
+    /**
+     * A skill criterion: a competence name and a minimum level, written {@code name:minLevel} or {@code name}.
+     */
+    public static final class SkillCriterion {
+
+        private final String name;
+
+        private final int minLevel;
+
+        public SkillCriterion(String name, int minLevel) {
+            this.name = normalize(name);
+            this.minLevel = minLevel;
+        }
+
+        /**
+         * @param value the criterion, {@code name:minLevel} or {@code name} to match any level.
+         * @return the parsed criterion.
+         * @throws IllegalArgumentException if the name is blank or the level is not a number.
+         */
+        public static SkillCriterion parse(String value) {
+            int separator = value.lastIndexOf(':');
+            String name = separator < 0 ? value : value.substring(0, separator);
+            if (name.isBlank()) {
+                throw new IllegalArgumentException("Invalid skill '" + value + "', expected name:minLevel");
+            }
+            if (separator < 0) {
+                return new SkillCriterion(name, Integer.MIN_VALUE);
+            }
+            try {
+                return new SkillCriterion(name, Integer.parseInt(value.substring(separator + 1).trim()));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid skill '" + value + "', the minimum level must be a number");
+            }
+        }
+
+        static String normalize(String name) {
+            return name.trim().toLowerCase(Locale.ROOT);
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public int getMinLevel() {
+            return minLevel;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof SkillCriterion)) {
+                return false;
+            }
+            SkillCriterion that = (SkillCriterion) o;
+            return minLevel == that.minLevel && name.equals(that.name);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(name, minLevel);
+        }
+
+        @Override
+        public String toString() {
+            return name + ":" + minLevel;
+        }
+    }
+
+    private static final class Posting {
+
+        private final long employeeId;
+
+        private final String skill;
+
+        private final int level;
+
+        private Posting(long employeeId, String skill, int level) {
+            this.employeeId = employeeId;
+            this.skill = skill;
+            this.level = level;
+        }
+    }
+
+    /**
+     * The competences of one skill, and the sorted employee id lists built from them.
+     */
+    private static final class Skill {
+
+        private final Map<Long, Posting> postings = new HashMap<>();
+
+        private volatile Levels levels;
+
+        synchronized void put(Long competenceId, Posting posting) {
+            postings.put(competenceId, posting);
+            levels = null;
+        }
+
+        synchronized void remove(Long competenceId) {
+            postings.remove(competenceId);
+            levels = null;
+        }
+
+        long[] employeesWithLevel(int minLevel) {
+            Levels current = levels;
+            if (current == null) {
+                current = build();
+            }
+            return current.employeesWithLevel(minLevel);
+        }
+
+        private synchronized Levels build() {
+            if (levels == null) {
+                Map<Long, Integer> bestLevels = new HashMap<>();
+                for (Posting posting : postings.values()) {
+                    bestLevels.merge(posting.employeeId, posting.level, Math::max);
+                }
+                TreeMap<Integer, List<Long>> employeesByLevel = new TreeMap<>(Comparator.reverseOrder());
+                bestLevels.forEach((employeeId, level) -> employeesByLevel.computeIfAbsent(level, key -> new ArrayList<>()).add(employeeId));
+                levels = new Levels(employeesByLevel);
+            }
+            return levels;
+        }
+    }
+
+    /**
+     * Immutable lists of employee ids by best level, the levels being sorted in descending order.
+     */
+    private static final class Levels {
+
+        private final int[] levels;
+
+        private final long[][] employeeIds;
+
+        private Levels(TreeMap<Integer, List<Long>> employeesByLevel) {
+            levels = new int[employeesByLevel.size()];
+            employeeIds = new long[employeesByLevel.size()][];
+            int i = 0;
+            for (Map.Entry<Integer, List<Long>> entry : employeesByLevel.entrySet()) {
+                levels[i] = entry.getKey();
+                employeeIds[i] = entry.getValue().stream().mapToLong(Long::longValue).sorted().toArray();
+                i++;
+            }
+        }
+
+        long[] employeesWithLevel(int minLevel) {
+            int count = 0;
+            while (count < levels.length && levels[count] >= minLevel) {
+                count++;
+            }
+            if (count == 0) {
+                return NO_EMPLOYEES;
+            }
+            long[] result = employeeIds[0];
+            for (int i = 1; i < count; i++) {
+                // an employee is only in the list of their best level, so the lists are disjoint
+                result = union(result, employeeIds[i]);
+            }
+            return result;
+        }
+    }
+}
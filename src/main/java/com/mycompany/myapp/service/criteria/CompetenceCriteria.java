@@ -0,0 +1,162 @@
+package com.mycompany.myapp.service.criteria;
+
+import java.io.Serializable;
+import java.util.Objects;
+import tech.jhipster.service.Criteria;
+import tech.jhipster.service.filter.*;
+
+/**
+ * Criteria class for the {@link com.mycompany.myapp.domain.Competence} entity. This class is used
+ * in {@link com.mycompany.myapp.web.rest.CompetenceResource} to receive all the possible filtering options from
+ * the Http GET request parameters, and as the nested {@code competence} criteria of the employees.
+ * For example the following could be a valid request:
+ * {@code /competences?level.greaterThanOrEqual=3&name.contains=java&categoryId.in=1,2}
+ * As Spring is unable to properly convert the types, unless specific {@link Filter} class are used, we need to use
+ * fix type specific filters.
+ */
+public class CompetenceCriteria implements Serializable, Criteria {
+
+    private static final long serialVersionUID = 1L;
+
+    private LongFilter id;
+
+    private StringFilter name;
+
+    private IntegerFilter level;
+
+    private LongFilter categoryId;
+
+    private LongFilter employeeId;
+
+    public CompetenceCriteria() {}
+
+    public CompetenceCriteria(CompetenceCriteria other) {
+        this.id = other.id == null ? null : other.id.copy();
+        this.name = other.name == null ? null : other.name.copy();
+        this.level = other.level == null ? null : other.level.copy();
+        this.categoryId = other.categoryId == null ? null : other.categoryId.copy();
+        this.employeeId = other.employeeId == null ? null : other.employeeId.copy();
+    }
+
+    @Override
+    public CompetenceCriteria copy() {
+        return new CompetenceCriteria(this);
+    }
+
+    public LongFilter getId() {
+        return id;
+    }
+
+    public LongFilter id() {
+        if (id == null) {
+            id = new LongFilter();
+        }
+        return id;
+    }
+
+    public void setId(LongFilter id) {
+        this.id = id;
+    }
+
+    public StringFilter getName() {
+        return name;
+    }
+
+    public StringFilter name() {
+        if (name == null) {
+            name = new StringFilter();
+        }
+        return name;
+    }
+
+    public void setName(StringFilter name) {
+        this.name = name;
+    }
+
+    public IntegerFilter getLevel() {
+        return level;
+    }
+
+    public IntegerFilter level() {
+        if (level == null) {
+            level = new IntegerFilter();
+        }
+        return level;
+    }
+
+    public void setLevel(IntegerFilter level) {
+        this.level = level;
+    }
+
+    public LongFilter getCategoryId() {
+        return categoryId;
+    }
+
+    public LongFilter categoryId() {
+        if (categoryId == null) {
+            categoryId = new LongFilter();
+        }
+        return categoryId;
+    }
+
+    public void setCategoryId(LongFilter categoryId) {
+        this.categoryId = categoryId;
+    }
+
+    public LongFilter getEmployeeId() {
+        return employeeId;
+    }
+
+    public LongFilter employeeId() {
+        if (employeeId == null) {
+            employeeId = new LongFilter();
+        }
+        return employeeId;
+    }
+
+    public void setEmployeeId(LongFilter employeeId) {
+        this.employeeId = employeeId;
+    }
+
+    /**
+     * @return {@code true} if no filter is set.
+     */
+    public boolean isEmpty() {
+        return id == null && name == null && level == null && categoryId == null && employeeId == null;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final CompetenceCriteria that = (CompetenceCriteria) o;
+        return (
+            Objects.equals(id, that.id) &&
+            Objects.equals(name, that.name) &&
+            Objects.equals(level, that.level) &&
+            Objects.equals(categoryId, that.categoryId) &&
+            Objects.equals(employeeId, that.employeeId)
+        );
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, name, level, categoryId, employeeId);
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "CompetenceCriteria{" +
+            (id != null ? "id=" + id + ", " : "") +
+            (name != null ? "name=" + name + ", " : "") +
+            (level != null ? "level=" + level + ", " : "") +
+            (categoryId != null ? "categoryId=" + categoryId + ", " : "") +
+            (employeeId != null ? "employeeId=" + employeeId + ", " : "") +
+            "}";
+    }
+}
@@ -0,0 +1,186 @@
+package com.mycompany.myapp.service.criteria;
+
+import java.io.Serializable;
+import java.util.Objects;
+import tech.jhipster.service.Criteria;
+import tech.jhipster.service.filter.*;
+
+/**
+ * Criteria class for the {@link com.mycompany.myapp.domain.Employee} entity. This class is used
+ * in {@link com.mycompany.myapp.web.rest.EmployeeResource} to receive all the possible filtering options from
+ * the Http GET request parameters.
+ * For example the following could be a valid request:
+ * {@code /employees?name.contains=dup&competence.level.greaterThan=3&category.id.in=1,2}
+ * <p>
+ * The {@code competence} and {@code category} criteria apply to the same competence: the request above returns the
+ * employees having a competence above level 3 in category 1 or 2.
+ * As Spring is unable to properly convert the types, unless specific {@link Filter} class are used, we need to use
+ * fix type specific filters.
+ */
+public class EmployeeCriteria implements Serializable, Criteria {
+
+    private static final long serialVersionUID = 1L;
+
+    private LongFilter id;
+
+    private StringFilter name;
+
+    private StringFilter firstName;
+
+    private StringFilter address;
+
+    private CompetenceCriteria competence;
+
+    private CategoryCriteria category;
+
+    public EmployeeCriteria() {}
+
+    public EmployeeCriteria(EmployeeCriteria other) {
+        this.id = other.id == null ? null : other.id.copy();
+        this.name = other.name == null ? null : other.name.copy();
+        this.firstName = other.firstName == null ? null : other.firstName.copy();
+        this.address = other.address == null ? null : other.address.copy();
+        this.competence = other.competence == null ? null : other.competence.copy();
+        this.category = other.category == null ? null : other.category.copy();
+    }
+
+    @Override
+    public EmployeeCriteria copy() {
+        return new EmployeeCriteria(this);
+    }
+
+    public LongFilter getId() {
+        return id;
+    }
+
+    public LongFilter id() {
+        if (id == null) {
+            id = new LongFilter();
+        }
+        return id;
+    }
+
+    public void setId(LongFilter id) {
+        this.id = id;
+    }
+
+    public StringFilter getName() {
+        return name;
+    }
+
+    public StringFilter name() {
+        if (name == null) {
+            name = new StringFilter();
+        }
+        return name;
+    }
+
+    public void setName(StringFilter name) {
+        this.name = name;
+    }
+
+    public StringFilter getFirstName() {
+        return firstName;
+    }
+
+    public StringFilter firstName() {
+        if (firstName == null) {
+            firstName = new StringFilter();
+        }
+        return firstName;
+    }
+
+    public void setFirstName(StringFilter firstName) {
+        this.firstName = firstName;
+    }
+
+    public StringFilter getAddress() {
+        return address;
+    }
+
+    public StringFilter address() {
+        if (address == null) {
+            address = new StringFilter();
+        }
+        return address;
+    }
+
+    public void setAddress(StringFilter address) {
+        this.address = address;
+    }
+
+    public CompetenceCriteria getCompetence() {
+        return competence;
+    }
+
+    public CompetenceCriteria competence() {
+        if (competence == null) {
+            competence = new CompetenceCriteria();
+        }
+        return competence;
+    }
+
+    public void setCompetence(CompetenceCriteria competence) {
+        this.competence = competence;
+    }
+
+    public CategoryCriteria getCategory() {
+        return category;
+    }
+
+    public CategoryCriteria category() {
+        if (category == null) {
+            category = new CategoryCriteria();
+        }
+        return category;
+    }
+
+    public void setCategory(CategoryCriteria category) {
+        this.category = category;
+    }
+
+    /**
+     * @return {@code true} if a competence or category filter is set, the employees then being joined to their
+     * competences.
+     */
+    public boolean hasCompetenceFilters() {
+        return (competence != null && !competence.isEmpty()) || (category != null && !category.isEmpty());
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final EmployeeCriteria that = (EmployeeCriteria) o;
+        return (
+            Objects.equals(id, that.id) &&
+            Objects.equals(name, that.name) &&
+            Objects.equals(firstName, that.firstName) &&
+            Objects.equals(address, that.address) &&
+            Objects.equals(competence, that.competence) &&
+            Objects.equals(category, that.category)
+        );
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, name, firstName, address, competence, category);
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "EmployeeCriteria{" +
+            (id != null ? "id=" + id + ", " : "") +
+            (name != null ? "name=" + name + ", " : "") +
+            (firstName != null ? "firstName=" + firstName + ", " : "") +
+            (address != null ? "address=" + address + ", " : "") +
+            (competence != null ? "competence=" + competence + ", " : "") +
+            (category != null ? "category=" + category + ", " : "") +
+            "}";
+    }
+}
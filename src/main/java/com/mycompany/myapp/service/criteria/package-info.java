@@ -0,0 +1,4 @@
+/**
+ * Filtering criteria of the entities, bound from the request parameters.
+ */
+package com.mycompany.myapp.service.criteria;
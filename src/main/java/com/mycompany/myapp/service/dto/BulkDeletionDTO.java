@@ -0,0 +1,112 @@
+package com.mycompany.myapp.service.dto;
+
+import java.io.Serializable;
+import java.time.Instant;
+
+/**
+ * A DTO representing the progress of a bulk deletion, updated by the deletion while it runs.
+ */
+public class BulkDeletionDTO implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private String id;
+
+    private volatile Status status = Status.RUNNING;
+
+    private long total;
+
+    private volatile long deleted;
+
+    private Instant startedAt;
+
+    private volatile Instant finishedAt;
+
+    private volatile String error;
+
+    public BulkDeletionDTO() {
+        // Empty constructor needed for Jackson.
+    }
+
+    public BulkDeletionDTO(String id, long total) {
+        this.id = id;
+        this.total = total;
+        this.startedAt = Instant.now();
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public void setStatus(Status status) {
+        this.status = status;
+    }
+
+    /**
+     * @return the number of employees matching the criteria when the deletion started.
+     */
+    public long getTotal() {
+        return total;
+    }
+
+    public void setTotal(long total) {
+        this.total = total;
+    }
+
+    public long getDeleted() {
+        return deleted;
+    }
+
+    public void setDeleted(long deleted) {
+        this.deleted = deleted;
+    }
+
+    public Instant getStartedAt() {
+        return startedAt;
+    }
+
+    public void setStartedAt(Instant startedAt) {
+        this.startedAt = startedAt;
+    }
+
+    public Instant getFinishedAt() {
+        return finishedAt;
+    }
+
+    public void setFinishedAt(Instant finishedAt) {
+        this.finishedAt = finishedAt;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public void setError(String error) {
+        this.error = error;
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "BulkDeletionDTO{" +
+            "id='" + getId() + "'" +
+            ", status=" + getStatus() +
+            ", total=" + getTotal() +
+            ", deleted=" + getDeleted() +
+            "}";
+    }
+
+    public enum Status {
+        RUNNING,
+        DONE,
+        FAILED,
+    }
+}
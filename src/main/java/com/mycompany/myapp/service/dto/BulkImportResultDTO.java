@@ -0,0 +1,105 @@
+package com.mycompany.myapp.service.dto;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A DTO representing the outcome of a bulk import: how many rows were imported, how many failed, and why.
+ */
+public class BulkImportResultDTO implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Only the first errors are reported, so that a completely wrong input does not produce a huge response.
+     */
+    public static final int MAX_REPORTED_ERRORS = 1000;
+
+    private long imported;
+
+    private long failed;
+
+    private List<RowError> errors = new ArrayList<>();
+
+    public long getImported() {
+        return imported;
+    }
+
+    public void setImported(long imported) {
+        this.imported = imported;
+    }
+
+    public long getFailed() {
+        return failed;
+    }
+
+    public void setFailed(long failed) {
+        this.failed = failed;
+    }
+
+    public List<RowError> getErrors() {
+        return errors;
+    }
+
+    public void setErrors(List<RowError> errors) {
+        this.errors = errors;
+    }
+
+    public void addImported(long count) {
+        this.imported += count;
+    }
+
+    public void addError(long row, String message) {
+        this.failed++;
+        if (errors.size() < MAX_REPORTED_ERRORS) {
+            errors.add(new RowError(row, message));
+        }
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "BulkImportResultDTO{" +
+            "imported=" + imported +
+            ", failed=" + failed +
+            "}";
+    }
+
+    /**
+     * The error of a single row, rows being numbered from 1.
+     */
+    public static class RowError implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private long row;
+
+        private String message;
+
+        public RowError() {
+            // Empty constructor needed for Jackson.
+        }
+
+        public RowError(long row, String message) {
+            this.row = row;
+            this.message = message;
+        }
+
+        public long getRow() {
+            return row;
+        }
+
+        public void setRow(long row) {
+            this.row = row;
+        }
+
+        public String getMessage() {
+            return message;
+        }
+
+        public void setMessage(String message) {
+            this.message = message;
+        }
+    }
+}
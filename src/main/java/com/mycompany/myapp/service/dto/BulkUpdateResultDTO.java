@@ -0,0 +1,127 @@
+package com.mycompany.myapp.service.dto;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A DTO representing the outcome of a bulk update: how many entities were updated, how many changes failed, and the
+ * result of every change, in the order of the request.
+ */
+public class BulkUpdateResultDTO implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private long updated;
+
+    private long failed;
+
+    private List<Result> results = new ArrayList<>();
+
+    public long getUpdated() {
+        return updated;
+    }
+
+    public void setUpdated(long updated) {
+        this.updated = updated;
+    }
+
+    public long getFailed() {
+        return failed;
+    }
+
+    public void setFailed(long failed) {
+        this.failed = failed;
+    }
+
+    public List<Result> getResults() {
+        return results;
+    }
+
+    public void setResults(List<Result> results) {
+        this.results = results;
+    }
+
+    /**
+     * Add the result of a change, whose status is set later.
+     *
+     * @param id the id of the changed entity.
+     * @return the result.
+     */
+    public Result add(Long id) {
+        Result result = new Result(id);
+        results.add(result);
+        return result;
+    }
+
+    public void setStatus(Result result, Status status, String message) {
+        result.setStatus(status);
+        result.setMessage(message);
+        if (status == Status.UPDATED) {
+            updated++;
+        } else {
+            failed++;
+        }
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "BulkUpdateResultDTO{" +
+            "updated=" + updated +
+            ", failed=" + failed +
+            "}";
+    }
+
+    public enum Status {
+        UPDATED,
+        NOT_FOUND,
+        INVALID,
+    }
+
+    /**
+     * The result of the change of a single entity.
+     */
+    public static class Result implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private Long id;
+
+        private Status status;
+
+        private String message;
+
+        public Result() {
+            // Empty constructor needed for Jackson.
+        }
+
+        public Result(Long id) {
+            this.id = id;
+        }
+
+        public Long getId() {
+            return id;
+        }
+
+        public void setId(Long id) {
+            this.id = id;
+        }
+
+        public Status getStatus() {
+            return status;
+        }
+
+        public void setStatus(Status status) {
+            this.status = status;
+        }
+
+        public String getMessage() {
+            return message;
+        }
+
+        public void setMessage(String message) {
+            this.message = message;
+        }
+    }
+}
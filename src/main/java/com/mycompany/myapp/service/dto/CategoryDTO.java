@@ -0,0 +1,87 @@
+package com.mycompany.myapp.service.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import java.io.Serializable;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * A DTO for the {@link com.mycompany.myapp.domain.Category} entity, with the same JSON representation.
+ */
+public class CategoryDTO implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private Long id;
+
+    private String name;
+
+    /**
+     * Like an uninitialized lazy collection of the entity, {@code null} unless it is fetched.
+     */
+    @JsonIgnoreProperties(value = { "category", "employee" }, allowSetters = true)
+    private Set<CompetenceDTO> competences;
+
+    public CategoryDTO() {
+        // Empty constructor needed for Jackson.
+    }
+
+    public CategoryDTO(Long id, String name) {
+        this.id = id;
+        this.name = name;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public Set<CompetenceDTO> getCompetences() {
+        return competences;
+    }
+
+    public void setCompetences(Set<CompetenceDTO> competences) {
+        this.competences = competences;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof CategoryDTO)) {
+            return false;
+        }
+
+        CategoryDTO categoryDTO = (CategoryDTO) o;
+        if (this.id == null) {
+            return false;
+        }
+        return Objects.equals(this.id, categoryDTO.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.id);
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "CategoryDTO{" +
+            "id=" + getId() +
+            ", name='" + getName() + "'" +
+            "}";
+    }
+}
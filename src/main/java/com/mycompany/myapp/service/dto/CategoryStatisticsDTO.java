@@ -0,0 +1,117 @@
+package com.mycompany.myapp.service.dto;
+
+import java.io.Serializable;
+
+/**
+ * A DTO representing the skill matrix of a category: how many competences and employees it has, and their levels.
+ * Level statistics only take into account the competences with a level, and are {@code null} when there are none.
+ */
+public class CategoryStatisticsDTO implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private Long categoryId;
+
+    private String categoryName;
+
+    private long competences;
+
+    private long employees;
+
+    private Double averageLevel;
+
+    private Integer minLevel;
+
+    private Integer medianLevel;
+
+    private Integer percentile90Level;
+
+    private Integer maxLevel;
+
+    public CategoryStatisticsDTO() {
+        // Empty constructor needed for Jackson.
+    }
+
+    public Long getCategoryId() {
+        return categoryId;
+    }
+
+    public void setCategoryId(Long categoryId) {
+        this.categoryId = categoryId;
+    }
+
+    public String getCategoryName() {
+        return categoryName;
+    }
+
+    public void setCategoryName(String categoryName) {
+        this.categoryName = categoryName;
+    }
+
+    public long getCompetences() {
+        return competences;
+    }
+
+    public void setCompetences(long competences) {
+        this.competences = competences;
+    }
+
+    public long getEmployees() {
+        return employees;
+    }
+
+    public void setEmployees(long employees) {
+        this.employees = employees;
+    }
+
+    public Double getAverageLevel() {
+        return averageLevel;
+    }
+
+    public void setAverageLevel(Double averageLevel) {
+        this.averageLevel = averageLevel;
+    }
+
+    public Integer getMinLevel() {
+        return minLevel;
+    }
+
+    public void setMinLevel(Integer minLevel) {
+        this.minLevel = minLevel;
+    }
+
+    public Integer getMedianLevel() {
+        return medianLevel;
+    }
+
+    public void setMedianLevel(Integer medianLevel) {
+        this.medianLevel = medianLevel;
+    }
+
+    public Integer getPercentile90Level() {
+        return percentile90Level;
+    }
+
+    public void setPercentile90Level(Integer percentile90Level) {
+        this.percentile90Level = percentile90Level;
+    }
+
+    public Integer getMaxLevel() {
+        return maxLevel;
+    }
+
+    public void setMaxLevel(Integer maxLevel) {
+        this.maxLevel = maxLevel;
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "CategoryStatisticsDTO{" +
+            "categoryId=" + categoryId +
+            ", competences=" + competences +
+            ", employees=" + employees +
+            ", averageLevel=" + averageLevel +
+            "}";
+    }
+}
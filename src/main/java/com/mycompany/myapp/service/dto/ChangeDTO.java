@@ -0,0 +1,100 @@
+package com.mycompany.myapp.service.dto;
+
+import java.io.Serializable;
+
+/**
+ * A DTO representing the notification of a committed change of an entity.
+ */
+public class ChangeDTO implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private long sequence;
+
+    private String entity;
+
+    private Long id;
+
+    private Type type;
+
+    private Long version;
+
+    public ChangeDTO() {
+        // Empty constructor needed for Jackson.
+    }
+
+    public ChangeDTO(long sequence, String entity, Long id, Type type, Long version) {
+        this.sequence = sequence;
+        this.entity = entity;
+        this.id = id;
+        this.type = type;
+        this.version = version;
+    }
+
+    /**
+     * @return the number of the change, increasing with the order in which the changes were notified.
+     */
+    public long getSequence() {
+        return sequence;
+    }
+
+    public void setSequence(long sequence) {
+        this.sequence = sequence;
+    }
+
+    /**
+     * @return the name of the changed entity: {@code Employee} or {@code Competence}.
+     */
+    public String getEntity() {
+        return entity;
+    }
+
+    public void setEntity(String entity) {
+        this.entity = entity;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public void setType(Type type) {
+        this.type = type;
+    }
+
+    /**
+     * @return the optimistic locking version of the entity after the change, or {@code null} for a bulk deletion.
+     */
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "ChangeDTO{" +
+            "sequence=" + getSequence() +
+            ", entity='" + getEntity() + "'" +
+            ", id=" + getId() +
+            ", type=" + getType() +
+            ", version=" + getVersion() +
+            "}";
+    }
+
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DELETED,
+    }
+}
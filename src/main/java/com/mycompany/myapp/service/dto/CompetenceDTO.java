@@ -0,0 +1,142 @@
+package com.mycompany.myapp.service.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * A DTO for the {@link com.mycompany.myapp.domain.Competence} entity, with the same JSON representation.
+ * <p>
+ * Its constructors are used by JPQL constructor expressions, so that competences are read without being loaded as
+ * managed entities.
+ */
+public class CompetenceDTO implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private Long id;
+
+    private String name;
+
+    private Integer level;
+
+    @JsonIgnoreProperties(value = { "competences" }, allowSetters = true)
+    private CategoryDTO category;
+
+    @JsonIgnoreProperties(value = { "competences" }, allowSetters = true)
+    private EmployeeDTO employee;
+
+    public CompetenceDTO() {
+        // Empty constructor needed for Jackson.
+    }
+
+    /**
+     * A competence of an employee, without its category.
+     */
+    public CompetenceDTO(Long id, String name, Integer level, Long employeeId) {
+        this.id = id;
+        this.name = name;
+        this.level = level;
+        this.employee = employeeId == null ? null : new EmployeeDTO(employeeId);
+    }
+
+    /**
+     * A competence of an employee, with its category.
+     */
+    public CompetenceDTO(Long id, String name, Integer level, Long employeeId, Long categoryId, String categoryName) {
+        this(id, name, level, employeeId);
+        this.category = categoryId == null ? null : new CategoryDTO(categoryId, categoryName);
+    }
+
+    /**
+     * A competence with its category and its employee.
+     */
+    public CompetenceDTO(
+        Long id,
+        String name,
+        Integer level,
+        Long categoryId,
+        String categoryName,
+        Long employeeId,
+        String employeeName,
+        String employeeFirstName,
+        String employeeAddress
+    ) {
+        this.id = id;
+        this.name = name;
+        this.level = level;
+        this.category = categoryId == null ? null : new CategoryDTO(categoryId, categoryName);
+        this.employee = employeeId == null ? null : new EmployeeDTO(employeeId, employeeName, employeeFirstName, employeeAddress);
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public Integer getLevel() {
+        return level;
+    }
+
+    public void setLevel(Integer level) {
+        this.level = level;
+    }
+
+    public CategoryDTO getCategory() {
+        return category;
+    }
+
+    public void setCategory(CategoryDTO category) {
+        this.category = category;
+    }
+
+    public EmployeeDTO getEmployee() {
+        return employee;
+    }
+
+    public void setEmployee(EmployeeDTO employee) {
+        this.employee = employee;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof CompetenceDTO)) {
+            return false;
+        }
+
+        CompetenceDTO competenceDTO = (CompetenceDTO) o;
+        if (this.id == null) {
+            return false;
+        }
+        return Objects.equals(this.id, competenceDTO.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.id);
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "CompetenceDTO{" +
+            "id=" + getId() +
+            ", name='" + getName() + "'" +
+            ", level=" + getLevel() +
+            "}";
+    }
+}
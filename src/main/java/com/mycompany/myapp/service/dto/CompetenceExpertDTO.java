@@ -0,0 +1,86 @@
+package com.mycompany.myapp.service.dto;
+
+import java.io.Serializable;
+
+/**
+ * A DTO representing an employee in the ranking of a competence.
+ */
+public class CompetenceExpertDTO implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private int rank;
+
+    private Long employeeId;
+
+    private String name;
+
+    private String firstName;
+
+    private Long competenceId;
+
+    private Integer level;
+
+    public CompetenceExpertDTO() {
+        // Empty constructor needed for Jackson.
+    }
+
+    public int getRank() {
+        return rank;
+    }
+
+    public void setRank(int rank) {
+        this.rank = rank;
+    }
+
+    public Long getEmployeeId() {
+        return employeeId;
+    }
+
+    public void setEmployeeId(Long employeeId) {
+        this.employeeId = employeeId;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getFirstName() {
+        return firstName;
+    }
+
+    public void setFirstName(String firstName) {
+        this.firstName = firstName;
+    }
+
+    public Long getCompetenceId() {
+        return competenceId;
+    }
+
+    public void setCompetenceId(Long competenceId) {
+        this.competenceId = competenceId;
+    }
+
+    public Integer getLevel() {
+        return level;
+    }
+
+    public void setLevel(Integer level) {
+        this.level = level;
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "CompetenceExpertDTO{" +
+            "rank=" + rank +
+            ", employeeId=" + employeeId +
+            ", competenceId=" + competenceId +
+            ", level=" + level +
+            "}";
+    }
+}
@@ -0,0 +1,49 @@
+package com.mycompany.myapp.service.dto;
+
+import java.io.Serializable;
+
+/**
+ * A DTO representing the change of the level of a {@link com.mycompany.myapp.domain.Competence}, in a bulk update.
+ */
+public class CompetenceLevelDTO implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private Long id;
+
+    private Integer level;
+
+    public CompetenceLevelDTO() {
+        // Empty constructor needed for Jackson.
+    }
+
+    public CompetenceLevelDTO(Long id, Integer level) {
+        this.id = id;
+        this.level = level;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Integer getLevel() {
+        return level;
+    }
+
+    public void setLevel(Integer level) {
+        this.level = level;
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "CompetenceLevelDTO{" +
+            "id=" + getId() +
+            ", level=" + getLevel() +
+            "}";
+    }
+}
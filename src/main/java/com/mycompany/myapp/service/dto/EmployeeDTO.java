@@ -0,0 +1,118 @@
+package com.mycompany.myapp.service.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import java.io.Serializable;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * A DTO for the {@link com.mycompany.myapp.domain.Employee} entity, with the same JSON representation.
+ * <p>
+ * Its constructors are used by JPQL constructor expressions, so that employees are read without being loaded as
+ * managed entities.
+ */
+public class EmployeeDTO implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private Long id;
+
+    private String name;
+
+    private String firstName;
+
+    private String address;
+
+    /**
+     * Like an uninitialized lazy collection of the entity, {@code null} unless it is fetched.
+     */
+    @JsonIgnoreProperties(value = { "employee" }, allowSetters = true)
+    private Set<CompetenceDTO> competences;
+
+    public EmployeeDTO() {
+        // Empty constructor needed for Jackson.
+    }
+
+    public EmployeeDTO(Long id) {
+        this.id = id;
+    }
+
+    public EmployeeDTO(Long id, String name, String firstName, String address) {
+        this.id = id;
+        this.name = name;
+        this.firstName = firstName;
+        this.address = address;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getFirstName() {
+        return firstName;
+    }
+
+    public void setFirstName(String firstName) {
+        this.firstName = firstName;
+    }
+
+    public String getAddress() {
+        return address;
+    }
+
+    public void setAddress(String address) {
+        this.address = address;
+    }
+
+    public Set<CompetenceDTO> getCompetences() {
+        return competences;
+    }
+
+    public void setCompetences(Set<CompetenceDTO> competences) {
+        this.competences = competences;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof EmployeeDTO)) {
+            return false;
+        }
+
+        EmployeeDTO employeeDTO = (EmployeeDTO) o;
+        if (this.id == null) {
+            return false;
+        }
+        return Objects.equals(this.id, employeeDTO.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.id);
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "EmployeeDTO{" +
+            "id=" + getId() +
+            ", name='" + getName() + "'" +
+            ", firstName='" + getFirstName() + "'" +
+            ", address='" + getAddress() + "'" +
+            "}";
+    }
+}
@@ -0,0 +1,114 @@
+package com.mycompany.myapp.service.dto;
+
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import java.io.Serializable;
+import java.time.Instant;
+
+/**
+ * A DTO representing a change event of an entity, read from the outbox.
+ */
+public class OutboxEventDTO implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private Long id;
+
+    private String aggregateType;
+
+    private Long aggregateId;
+
+    private Type type;
+
+    private String payload;
+
+    private Instant createdDate;
+
+    public OutboxEventDTO() {
+        // Empty constructor needed for Jackson.
+    }
+
+    public OutboxEventDTO(Long id, String aggregateType, Long aggregateId, Type type, String payload, Instant createdDate) {
+        this.id = id;
+        this.aggregateType = aggregateType;
+        this.aggregateId = aggregateId;
+        this.type = type;
+        this.payload = payload;
+        this.createdDate = createdDate;
+    }
+
+    /**
+     * @return the id of the event, increasing with the order in which the events were written.
+     */
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    /**
+     * @return the name of the changed entity: {@code Employee}, {@code Competence} or {@code Category}.
+     */
+    public String getAggregateType() {
+        return aggregateType;
+    }
+
+    public void setAggregateType(String aggregateType) {
+        this.aggregateType = aggregateType;
+    }
+
+    public Long getAggregateId() {
+        return aggregateId;
+    }
+
+    public void setAggregateId(Long aggregateId) {
+        this.aggregateId = aggregateId;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public void setType(Type type) {
+        this.type = type;
+    }
+
+    /**
+     * @return the state of the entity after the change as a JSON object, associations being given by id; only the id
+     * for a deletion.
+     */
+    @JsonRawValue
+    public String getPayload() {
+        return payload;
+    }
+
+    public void setPayload(String payload) {
+        this.payload = payload;
+    }
+
+    public Instant getCreatedDate() {
+        return createdDate;
+    }
+
+    public void setCreatedDate(Instant createdDate) {
+        this.createdDate = createdDate;
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "OutboxEventDTO{" +
+            "id=" + getId() +
+            ", aggregateType='" + getAggregateType() + "'" +
+            ", aggregateId=" + getAggregateId() +
+            ", type=" + getType() +
+            "}";
+    }
+
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DELETED,
+    }
+}
@@ -0,0 +1,101 @@
+package com.mycompany.myapp.service.dto;
+
+import java.io.Serializable;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Objects;
+
+/**
+ * A DTO representing the version of a REST resource, computed from the versions or the last modification dates of the
+ * entities it is made of, so that conditional requests are answered without loading them.
+ * <p>
+ * The version of a single entity has a strong entity tag, its optimistic locking version, which {@code If-Match} can be
+ * checked against. The version of several entities has a weak entity tag, combining their latest modification date
+ * with their number, so that removing an entity which was not the latest modified one also changes it.
+ */
+public class VersionDTO implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final Instant lastModified;
+
+    private final String eTag;
+
+    private VersionDTO(Instant lastModified, String eTag) {
+        this.lastModified = lastModified;
+        this.eTag = eTag;
+    }
+
+    /**
+     * @param version the optimistic locking version of the entity the resource is made of.
+     * @param lastModified the last modification date of the entity.
+     * @return the version of the resource.
+     */
+    public static VersionDTO of(long version, Instant lastModified) {
+        return new VersionDTO(lastModified, "\"" + version + "\"");
+    }
+
+    /**
+     * @param count the number of entities the resource is made of.
+     * @param lastModifiedDates the last modification dates of the entities, or of groups of entities; {@code null}
+     * for an empty group.
+     * @return the version of the resource.
+     */
+    public static VersionDTO ofAll(long count, Instant... lastModifiedDates) {
+        Instant lastModified = Arrays
+            .stream(lastModifiedDates)
+            .filter(Objects::nonNull)
+            .max(Comparator.naturalOrder())
+            .orElse(Instant.EPOCH);
+        return new VersionDTO(lastModified, "W/\"" + count + "-" + ChronoUnit.MICROS.between(Instant.EPOCH, lastModified) + "\"");
+    }
+
+    public Instant getLastModified() {
+        return lastModified;
+    }
+
+    /**
+     * @return the entity tag, with its quotes.
+     */
+    public String getETag() {
+        return eTag;
+    }
+
+    /**
+     * @param ifMatch the value of an {@code If-Match} header: {@code *}, or a list of entity tags.
+     * @return {@code true} if the header matches this version; weak entity tags never match.
+     */
+    public boolean matches(String ifMatch) {
+        return Arrays
+            .stream(ifMatch.split(","))
+            .map(String::trim)
+            .anyMatch(tag -> "*".equals(tag) || (!eTag.startsWith("W/") && eTag.equals(tag)));
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof VersionDTO)) {
+            return false;
+        }
+        return eTag.equals(((VersionDTO) o).eTag);
+    }
+
+    @Override
+    public int hashCode() {
+        return eTag.hashCode();
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "VersionDTO{" +
+            "lastModified=" + getLastModified() +
+            ", eTag='" + getETag() + "'" +
+            "}";
+    }
+}
@@ -2,7 +2,13 @@ package com.mycompany.myapp.web.rest;
 
 import com.mycompany.myapp.domain.Category;
 import com.mycompany.myapp.repository.CategoryRepository;
+import com.mycompany.myapp.service.CategoryService;
+import com.mycompany.myapp.service.CategoryStatisticsService;
+import com.mycompany.myapp.service.dto.CategoryDTO;
+import com.mycompany.myapp.service.dto.CategoryStatisticsDTO;
+import com.mycompany.myapp.service.dto.VersionDTO;
 import com.mycompany.myapp.web.rest.errors.BadRequestAlertException;
+import com.mycompany.myapp.web.rest.errors.PreconditionFailedAlertException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.List;
@@ -11,9 +17,11 @@ import java.util.Optional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import tech.jhipster.web.util.HeaderUtil;
 import tech.jhipster.web.util.ResponseUtil;
 
@@ -34,8 +42,18 @@ public class CategoryResource {
 
     private final CategoryRepository categoryRepository;
 
-    public CategoryResource(CategoryRepository categoryRepository) {
+    private final CategoryService categoryService;
+
+    private final CategoryStatisticsService categoryStatisticsService;
+
+    public CategoryResource(
+        CategoryRepository categoryRepository,
+        CategoryService categoryService,
+        CategoryStatisticsService categoryStatisticsService
+    ) {
         this.categoryRepository = categoryRepository;
+        this.categoryService = categoryService;
+        this.categoryStatisticsService = categoryStatisticsService;
     }
 
     /**
@@ -63,15 +81,18 @@ public class CategoryResource {
      *
      * @param id the id of the category to save.
      * @param category the category to update.
+     * @param ifMatch the {@code ETag} of the category when the client read it, to update it only if it was not modified since.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the updated category,
      * or with status {@code 400 (Bad Request)} if the category is not valid,
+     * or with status {@code 412 (Precondition Failed)} if the category was modified since it was read,
      * or with status {@code 500 (Internal Server Error)} if the category couldn't be updated.
      * @throws URISyntaxException if the Location URI syntax is incorrect.
      */
     @PutMapping("/categories/{id}")
     public ResponseEntity<Category> updateCategory(
         @PathVariable(value = "id", required = false) final Long id,
-        @RequestBody Category category
+        @RequestBody Category category,
+        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
     ) throws URISyntaxException {
         log.debug("REST request to update Category : {}, {}", id, category);
         if (category.getId() == null) {
@@ -81,13 +102,13 @@ public class CategoryResource {
             throw new BadRequestAlertException("Invalid ID", ENTITY_NAME, "idinvalid");
         }
 
-        if (!categoryRepository.existsById(id)) {
-            throw new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound");
-        }
+        Category existingCategory = findForUpdate(id, ifMatch);
+        existingCategory.setName(category.getName());
 
-        Category result = categoryRepository.save(category);
+        Category result = categoryRepository.saveAndFlush(existingCategory);
         return ResponseEntity
             .ok()
+            .eTag(version(result).getETag())
             .headers(HeaderUtil.createEntityUpdateAlert(applicationName, false, ENTITY_NAME, category.getId().toString()))
             .body(result);
     }
@@ -97,16 +118,18 @@ public class CategoryResource {
      *
      * @param id the id of the category to save.
      * @param category the category to update.
+     * @param ifMatch the {@code ETag} of the category when the client read it, to update it only if it was not modified since.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the updated category,
-     * or with status {@code 400 (Bad Request)} if the category is not valid,
-     * or with status {@code 404 (Not Found)} if the category is not found,
+     * or with status {@code 400 (Bad Request)} if the category is not valid or not found,
+     * or with status {@code 412 (Precondition Failed)} if the category was modified since it was read,
      * or with status {@code 500 (Internal Server Error)} if the category couldn't be updated.
      * @throws URISyntaxException if the Location URI syntax is incorrect.
      */
     @PatchMapping(value = "/categories/{id}", consumes = { "application/json", "application/merge-patch+json" })
     public ResponseEntity<Category> partialUpdateCategory(
         @PathVariable(value = "id", required = false) final Long id,
-        @RequestBody Category category
+        @RequestBody Category category,
+        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
     ) throws URISyntaxException {
         log.debug("REST request to partial update Category partially : {}, {}", id, category);
         if (category.getId() == null) {
@@ -116,48 +139,92 @@ public class CategoryResource {
             throw new BadRequestAlertException("Invalid ID", ENTITY_NAME, "idinvalid");
         }
 
-        if (!categoryRepository.existsById(id)) {
-            throw new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound");
+        Category existingCategory = findForUpdate(id, ifMatch);
+        if (category.getName() != null) {
+            existingCategory.setName(category.getName());
         }
 
-        Optional<Category> result = categoryRepository
-            .findById(category.getId())
-            .map(existingCategory -> {
-                if (category.getName() != null) {
-                    existingCategory.setName(category.getName());
-                }
-
-                return existingCategory;
-            })
-            .map(categoryRepository::save);
-
-        return ResponseUtil.wrapOrNotFound(
-            result,
-            HeaderUtil.createEntityUpdateAlert(applicationName, false, ENTITY_NAME, category.getId().toString())
-        );
+        Category result = categoryRepository.saveAndFlush(existingCategory);
+        return ResponseEntity
+            .ok()
+            .eTag(version(result).getETag())
+            .headers(HeaderUtil.createEntityUpdateAlert(applicationName, false, ENTITY_NAME, category.getId().toString()))
+            .body(result);
+    }
+
+    /**
+     * Read the category to update, checking the {@code If-Match} header if any; the update is then flushed with a
+     * version check.
+     */
+    private Category findForUpdate(Long id, String ifMatch) {
+        Category category = categoryRepository
+            .findById(id)
+            .orElseThrow(() -> new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound"));
+        if (ifMatch != null && !version(category).matches(ifMatch)) {
+            throw new PreconditionFailedAlertException("The category was modified since it was read", ENTITY_NAME, "preconditionfailed");
+        }
+        return category;
+    }
+
+    private static VersionDTO version(Category category) {
+        return VersionDTO.of(category.getVersion(), category.getLastModifiedDate());
     }
 
     /**
      * {@code GET  /categories} : get all the categories.
+     * <p>
+     * The response has an {@code ETag} and a {@code Last-Modified} header: {@code If-None-Match} and
+     * {@code If-Modified-Since} requests are answered with {@code 304 (Not Modified)} from a single aggregate query.
      *
-     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of categories in body.
+     * @param webRequest the request, holding the conditional headers.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of categories in body,
+     * or with status {@code 304 (Not Modified)}.
      */
     @GetMapping("/categories")
-    public List<Category> getAllCategories() {
+    @Transactional(readOnly = true)
+    public ResponseEntity<List<CategoryDTO>> getAllCategories(WebRequest webRequest) {
         log.debug("REST request to get all Categories");
-        return categoryRepository.findAll();
+        VersionDTO version = categoryService.findAllVersion();
+        if (webRequest.checkNotModified(version.getETag(), version.getLastModified().toEpochMilli())) {
+            // the status and the validators are already set on the response
+            return null;
+        }
+        return ResponseEntity.ok(categoryService.findAll());
+    }
+
+    /**
+     * {@code GET  /categories/statistics} : get the skill matrix of all the categories.
+     *
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the statistics of every category in body.
+     */
+    @GetMapping("/categories/statistics")
+    @Transactional(readOnly = true)
+    public List<CategoryStatisticsDTO> getAllCategoryStatistics() {
+        log.debug("REST request to get the statistics of all Categories");
+        return categoryStatisticsService.findAll();
     }
 
     /**
      * {@code GET  /categories/:id} : get the "id" category.
      *
      * @param id the id of the category to retrieve.
-     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the category, or with status {@code 404 (Not Found)}.
+     * @param webRequest the request, holding the conditional headers.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the category, or with status {@code 304 (Not Modified)},
+     * or with status {@code 404 (Not Found)}.
      */
     @GetMapping("/categories/{id}")
-    public ResponseEntity<Category> getCategory(@PathVariable Long id) {
+    @Transactional(readOnly = true)
+    public ResponseEntity<CategoryDTO> getCategory(@PathVariable Long id, WebRequest webRequest) {
         log.debug("REST request to get Category : {}", id);
-        Optional<Category> category = categoryRepository.findById(id);
+        Optional<VersionDTO> version = categoryService.findVersion(id);
+        if (
+            version.isPresent() &&
+            webRequest.checkNotModified(version.get().getETag(), version.get().getLastModified().toEpochMilli())
+        ) {
+            // the status and the validators are already set on the response
+            return null;
+        }
+        Optional<CategoryDTO> category = categoryService.findOne(id);
         return ResponseUtil.wrapOrNotFound(category);
     }
 
@@ -0,0 +1,108 @@
+package com.mycompany.myapp.web.rest;
+
+import com.mycompany.myapp.config.ApplicationProperties;
+import com.mycompany.myapp.service.ChangeFeedService;
+import com.mycompany.myapp.service.dto.ChangeDTO;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * REST controller streaming the changes of {@link com.mycompany.myapp.domain.Employee}s and
+ * {@link com.mycompany.myapp.domain.Competence}s, as server-sent events.
+ */
+@RestController
+@RequestMapping("/api")
+public class ChangeFeedResource {
+
+    private final Logger log = LoggerFactory.getLogger(ChangeFeedResource.class);
+
+    private static final String CHANGE_EVENT = "change";
+
+    private static final String RESET_EVENT = "reset";
+
+    private final ChangeFeedService changeFeedService;
+
+    private final long timeout;
+
+    public ChangeFeedResource(ChangeFeedService changeFeedService, ApplicationProperties applicationProperties) {
+        this.changeFeedService = changeFeedService;
+        this.timeout = applicationProperties.getChangeFeed().getTimeout().toMillis();
+    }
+
+    /**
+     * {@code GET  /changes/stream} : stream the committed changes of the employees and the competences.
+     * <p>
+     * Every change is a {@code change} event, whose data is the entity name, the id, the type of change and the
+     * version of the entity. A {@code reset} event replaces the changes dropped when the client does not keep up: it
+     * should then reload the data it shows. The stream ends after {@code application.change-feed.timeout}, and the
+     * client reconnects.
+     * <p>
+     * The id of a {@code change} event is its sequence number, which the client sends back in the
+     * {@code Last-Event-ID} header when it reconnects. The changes made while it was disconnected are not replayed:
+     * when the header is present and the client missed changes (or the sequence is unknown, e.g. after a restart of
+     * the server), the new stream starts with a {@code reset} event. The id of a {@code reset} event is the sequence of
+     * the last change it replaces, so a client reconnecting after it only gets another one if there were changes since.
+     *
+     * @param lastEventId the id of the last event received by a reconnecting client.
+     * @return the stream, with status {@code 200 (OK)}, or with status {@code 503 (Service Unavailable)} if there are
+     * too many subscribers.
+     */
+    @GetMapping(value = "/changes/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamChanges(@RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        log.debug("REST request to stream the changes after : {}", lastEventId);
+        SseEmitter emitter = new SseEmitter(timeout);
+        ChangeFeedService.Subscription subscription = changeFeedService
+            .subscribe(
+                new ChangeFeedService.Subscriber() {
+                    @Override
+                    public void onChanges(List<ChangeDTO> changes) throws Exception {
+                        for (ChangeDTO change : changes) {
+                            emitter.send(
+                                SseEmitter
+                                    .event()
+                                    .id(String.valueOf(change.getSequence()))
+                                    .name(CHANGE_EVENT)
+                                    .data(change, MediaType.APPLICATION_JSON)
+                            );
+                        }
+                    }
+
+                    @Override
+                    public void onReset(long sequence) throws Exception {
+                        emitter.send(SseEmitter.event().id(String.valueOf(sequence)).name(RESET_EVENT).data(""));
+                    }
+
+                    @Override
+                    public void onHeartbeat() throws Exception {
+                        emitter.send(SseEmitter.event().comment("heartbeat"));
+                    }
+                },
+                lastEventId == null ? null : parseSequence(lastEventId)
+            )
+            .orElseThrow(() -> new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Too many change feed subscribers"));
+        emitter.onCompletion(subscription::cancel);
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(error -> subscription.cancel());
+        return emitter;
+    }
+
+    /**
+     * @return the sequence of an event id, or {@code -1} (never a current sequence) if it is not a sequence.
+     */
+    private static long parseSequence(String eventId) {
+        try {
+            return Long.parseLong(eventId.trim());
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+}
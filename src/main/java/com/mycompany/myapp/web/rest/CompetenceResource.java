@@ -2,7 +2,19 @@ package com.mycompany.myapp.web.rest;
 
 import com.mycompany.myapp.domain.Competence;
 import com.mycompany.myapp.repository.CompetenceRepository;
+import com.mycompany.myapp.service.CompetenceLevelUpdateService;
+import com.mycompany.myapp.service.CompetenceQueryService;
+import com.mycompany.myapp.service.CompetenceRankingService;
+import com.mycompany.myapp.service.CompetenceService;
+import com.mycompany.myapp.service.FullTextSearchService;
+import com.mycompany.myapp.service.criteria.CompetenceCriteria;
+import com.mycompany.myapp.service.dto.BulkUpdateResultDTO;
+import com.mycompany.myapp.service.dto.CompetenceDTO;
+import com.mycompany.myapp.service.dto.CompetenceExpertDTO;
+import com.mycompany.myapp.service.dto.CompetenceLevelDTO;
+import com.mycompany.myapp.service.dto.VersionDTO;
 import com.mycompany.myapp.web.rest.errors.BadRequestAlertException;
+import com.mycompany.myapp.web.rest.errors.PreconditionFailedAlertException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.List;
@@ -11,10 +23,17 @@ import java.util.Optional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 import tech.jhipster.web.util.HeaderUtil;
+import tech.jhipster.web.util.PaginationUtil;
 import tech.jhipster.web.util.ResponseUtil;
 
 /**
@@ -34,8 +53,30 @@ public class CompetenceResource {
 
     private final CompetenceRepository competenceRepository;
 
-    public CompetenceResource(CompetenceRepository competenceRepository) {
+    private final CompetenceRankingService competenceRankingService;
+
+    private final FullTextSearchService fullTextSearchService;
+
+    private final CompetenceQueryService competenceQueryService;
+
+    private final CompetenceService competenceService;
+
+    private final CompetenceLevelUpdateService competenceLevelUpdateService;
+
+    public CompetenceResource(
+        CompetenceRepository competenceRepository,
+        CompetenceService competenceService,
+        CompetenceLevelUpdateService competenceLevelUpdateService,
+        CompetenceRankingService competenceRankingService,
+        FullTextSearchService fullTextSearchService,
+        CompetenceQueryService competenceQueryService
+    ) {
         this.competenceRepository = competenceRepository;
+        this.competenceService = competenceService;
+        this.competenceLevelUpdateService = competenceLevelUpdateService;
+        this.competenceQueryService = competenceQueryService;
+        this.competenceRankingService = competenceRankingService;
+        this.fullTextSearchService = fullTextSearchService;
     }
 
     /**
@@ -63,15 +104,18 @@ public class CompetenceResource {
      *
      * @param id the id of the competence to save.
      * @param competence the competence to update.
+     * @param ifMatch the {@code ETag} of the competence returned by its last update, to update it only if it was not modified since.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the updated competence,
      * or with status {@code 400 (Bad Request)} if the competence is not valid,
+     * or with status {@code 412 (Precondition Failed)} if the competence was modified since it was read,
      * or with status {@code 500 (Internal Server Error)} if the competence couldn't be updated.
      * @throws URISyntaxException if the Location URI syntax is incorrect.
      */
     @PutMapping("/competences/{id}")
     public ResponseEntity<Competence> updateCompetence(
         @PathVariable(value = "id", required = false) final Long id,
-        @RequestBody Competence competence
+        @RequestBody Competence competence,
+        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
     ) throws URISyntaxException {
         log.debug("REST request to update Competence : {}, {}", id, competence);
         if (competence.getId() == null) {
@@ -81,13 +125,16 @@ public class CompetenceResource {
             throw new BadRequestAlertException("Invalid ID", ENTITY_NAME, "idinvalid");
         }
 
-        if (!competenceRepository.existsById(id)) {
-            throw new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound");
-        }
+        Competence existingCompetence = findForUpdate(id, ifMatch);
+        existingCompetence.setName(competence.getName());
+        existingCompetence.setLevel(competence.getLevel());
+        existingCompetence.setCategory(competence.getCategory());
+        existingCompetence.setEmployee(competence.getEmployee());
 
-        Competence result = competenceRepository.save(competence);
+        Competence result = competenceRepository.saveAndFlush(existingCompetence);
         return ResponseEntity
             .ok()
+            .eTag(version(result).getETag())
             .headers(HeaderUtil.createEntityUpdateAlert(applicationName, false, ENTITY_NAME, competence.getId().toString()))
             .body(result);
     }
@@ -97,16 +144,18 @@ public class CompetenceResource {
      *
      * @param id the id of the competence to save.
      * @param competence the competence to update.
+     * @param ifMatch the {@code ETag} of the competence returned by its last update, to update it only if it was not modified since.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the updated competence,
-     * or with status {@code 400 (Bad Request)} if the competence is not valid,
-     * or with status {@code 404 (Not Found)} if the competence is not found,
+     * or with status {@code 400 (Bad Request)} if the competence is not valid or not found,
+     * or with status {@code 412 (Precondition Failed)} if the competence was modified since it was read,
      * or with status {@code 500 (Internal Server Error)} if the competence couldn't be updated.
      * @throws URISyntaxException if the Location URI syntax is incorrect.
      */
     @PatchMapping(value = "/competences/{id}", consumes = { "application/json", "application/merge-patch+json" })
     public ResponseEntity<Competence> partialUpdateCompetence(
         @PathVariable(value = "id", required = false) final Long id,
-        @RequestBody Competence competence
+        @RequestBody Competence competence,
+        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
     ) throws URISyntaxException {
         log.debug("REST request to partial update Competence partially : {}, {}", id, competence);
         if (competence.getId() == null) {
@@ -116,54 +165,149 @@ public class CompetenceResource {
             throw new BadRequestAlertException("Invalid ID", ENTITY_NAME, "idinvalid");
         }
 
-        if (!competenceRepository.existsById(id)) {
-            throw new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound");
+        Competence existingCompetence = findForUpdate(id, ifMatch);
+        if (competence.getName() != null) {
+            existingCompetence.setName(competence.getName());
+        }
+        if (competence.getLevel() != null) {
+            existingCompetence.setLevel(competence.getLevel());
         }
 
-        Optional<Competence> result = competenceRepository
-            .findById(competence.getId())
-            .map(existingCompetence -> {
-                if (competence.getName() != null) {
-                    existingCompetence.setName(competence.getName());
-                }
-                if (competence.getLevel() != null) {
-                    existingCompetence.setLevel(competence.getLevel());
-                }
-
-                return existingCompetence;
-            })
-            .map(competenceRepository::save);
-
-        return ResponseUtil.wrapOrNotFound(
-            result,
-            HeaderUtil.createEntityUpdateAlert(applicationName, false, ENTITY_NAME, competence.getId().toString())
-        );
+        Competence result = competenceRepository.saveAndFlush(existingCompetence);
+        return ResponseEntity
+            .ok()
+            .eTag(version(result).getETag())
+            .headers(HeaderUtil.createEntityUpdateAlert(applicationName, false, ENTITY_NAME, competence.getId().toString()))
+            .body(result);
+    }
+
+    /**
+     * {@code PATCH  /competences} : Changes the level of many competences, in one transaction.
+     *
+     * @param changes the changes, as a list of competence ids and levels.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the result of every change,
+     * or with status {@code 409 (Conflict)} if one of the competences was concurrently updated, in which case no change is made.
+     */
+    @PatchMapping(value = "/competences", consumes = "application/json")
+    public ResponseEntity<BulkUpdateResultDTO> updateCompetenceLevels(@RequestBody List<CompetenceLevelDTO> changes) {
+        log.debug("REST request to update the level of {} Competences", changes.size());
+        return ResponseEntity.ok(competenceLevelUpdateService.updateLevels(changes));
+    }
+
+    /**
+     * Read the competence to update, checking the {@code If-Match} header if any; the update is then flushed with a
+     * version check.
+     * <p>
+     * The {@code ETag} of {@code GET /competences/:id} is weak, as it also covers the category and the employee, so it
+     * never matches: the strong {@code ETag} of the competence is the one of its update responses.
+     */
+    private Competence findForUpdate(Long id, String ifMatch) {
+        Competence competence = competenceRepository
+            .findById(id)
+            .orElseThrow(() -> new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound"));
+        if (ifMatch != null && !version(competence).matches(ifMatch)) {
+            throw new PreconditionFailedAlertException("The competence was modified since it was read", ENTITY_NAME, "preconditionfailed");
+        }
+        return competence;
+    }
+
+    private static VersionDTO version(Competence competence) {
+        return VersionDTO.of(competence.getVersion(), competence.getLastModifiedDate());
     }
 
     /**
      * {@code GET  /competences} : get all the competences.
      *
+     * @param criteria the criteria which the requested entities should match.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of competences in body.
      */
     @GetMapping("/competences")
-    public List<Competence> getAllCompetences() {
-        log.debug("REST request to get all Competences");
-        return competenceRepository.findAll();
+    @Transactional(readOnly = true)
+    public List<CompetenceDTO> getAllCompetences(CompetenceCriteria criteria) {
+        log.debug("REST request to get all Competences by criteria: {}", criteria);
+        return competenceQueryService.findByCriteria(criteria);
+    }
+
+    /**
+     * {@code GET  /competences/count} : count all the competences.
+     *
+     * @param criteria the criteria which the requested entities should match.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the count in body.
+     */
+    @GetMapping("/competences/count")
+    @Transactional(readOnly = true)
+    public ResponseEntity<Long> countCompetences(CompetenceCriteria criteria) {
+        log.debug("REST request to count Competences by criteria: {}", criteria);
+        return ResponseEntity.ok().body(competenceQueryService.countByCriteria(criteria));
     }
 
     /**
      * {@code GET  /competences/:id} : get the "id" competence.
      *
      * @param id the id of the competence to retrieve.
-     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the competence, or with status {@code 404 (Not Found)}.
+     * @param webRequest the request, holding the conditional headers.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the competence, or with status {@code 304 (Not Modified)},
+     * or with status {@code 404 (Not Found)}.
      */
     @GetMapping("/competences/{id}")
-    public ResponseEntity<Competence> getCompetence(@PathVariable Long id) {
+    @Transactional(readOnly = true)
+    public ResponseEntity<CompetenceDTO> getCompetence(@PathVariable Long id, WebRequest webRequest) {
         log.debug("REST request to get Competence : {}", id);
-        Optional<Competence> competence = competenceRepository.findById(id);
+        Optional<VersionDTO> version = competenceService.findVersion(id);
+        if (
+            version.isPresent() &&
+            webRequest.checkNotModified(version.get().getETag(), version.get().getLastModified().toEpochMilli())
+        ) {
+            // the status and the validators are already set on the response
+            return null;
+        }
+        Optional<CompetenceDTO> competence = competenceService.findOne(id);
         return ResponseUtil.wrapOrNotFound(competence);
     }
 
+    /**
+     * {@code GET  /competences/:name/top} : get the employees with the highest level in the "name" competence.
+     *
+     * @param name the name of the competence, case-insensitive.
+     * @param k the number of employees to return, from 1 to {@link CompetenceRankingService#MAX_K}.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of experts in body, by descending level.
+     */
+    @GetMapping("/competences/{name}/top")
+    @Transactional(readOnly = true)
+    public ResponseEntity<List<CompetenceExpertDTO>> getTopExperts(
+        @PathVariable String name,
+        @RequestParam(value = "k", defaultValue = "20") int k
+    ) {
+        log.debug("REST request to get the top {} experts of Competence : {}", k, name);
+        if (k < 1 || k > CompetenceRankingService.MAX_K) {
+            throw new BadRequestAlertException("k must be between 1 and " + CompetenceRankingService.MAX_K, ENTITY_NAME, "kinvalid");
+        }
+        return ResponseEntity.ok(competenceRankingService.findTopExperts(name, k));
+    }
+
+    /**
+     * {@code GET  /_search/competences?q=:query} : full-text search of the competences, by name.
+     *
+     * @param query the query, in the simple query string syntax.
+     * @param pageable the pagination information, results being sorted by relevance.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of matching competences in body.
+     */
+    @GetMapping("/_search/competences")
+    @Transactional(readOnly = true)
+    public ResponseEntity<List<CompetenceDTO>> fullTextSearchCompetences(
+        @RequestParam("q") String query,
+        @org.springdoc.api.annotations.ParameterObject Pageable pageable
+    ) {
+        log.debug("REST request to search for a page of Competences for query {}", query);
+        if (query.isBlank()) {
+            throw new BadRequestAlertException("The query cannot be blank", ENTITY_NAME, "queryblank");
+        }
+        Page<Long> ids = fullTextSearchService.searchCompetenceIds(query, pageable);
+        Page<CompetenceDTO> page = new PageImpl<>(competenceQueryService.findAllById(ids.getContent()), pageable, ids.getTotalElements());
+        HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
+        return ResponseEntity.ok().headers(headers).body(page.getContent());
+    }
+
     /**
      * {@code DELETE  /competences/:id} : delete the "id" competence.
      *
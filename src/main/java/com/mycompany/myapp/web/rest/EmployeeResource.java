@@ -2,19 +2,53 @@ package com.mycompany.myapp.web.rest;
 
 import com.mycompany.myapp.domain.Employee;
 import com.mycompany.myapp.repository.EmployeeRepository;
+import com.mycompany.myapp.service.EmployeeDeletionService;
+import com.mycompany.myapp.service.EmployeeExportService;
+import com.mycompany.myapp.service.EmployeeImportService;
+import com.mycompany.myapp.service.EmployeeQueryService;
+import com.mycompany.myapp.service.EmployeeService;
+import com.mycompany.myapp.service.FullTextSearchService;
+import com.mycompany.myapp.service.SkillIndexService;
+import com.mycompany.myapp.service.SkillIndexService.SkillCriterion;
+import com.mycompany.myapp.service.criteria.EmployeeCriteria;
+import com.mycompany.myapp.service.dto.BulkDeletionDTO;
+import com.mycompany.myapp.service.dto.BulkImportResultDTO;
+import com.mycompany.myapp.service.dto.EmployeeDTO;
+import com.mycompany.myapp.service.dto.VersionDTO;
 import com.mycompany.myapp.web.rest.errors.BadRequestAlertException;
+import com.mycompany.myapp.web.rest.errors.PreconditionFailedAlertException;
+import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 import tech.jhipster.web.util.HeaderUtil;
+import tech.jhipster.web.util.PaginationUtil;
 import tech.jhipster.web.util.ResponseUtil;
 
 /**
@@ -25,17 +59,65 @@ import tech.jhipster.web.util.ResponseUtil;
 @Transactional
 public class EmployeeResource {
 
+    private static final List<String> ALLOWED_ORDERED_PROPERTIES = Collections.unmodifiableList(
+        Arrays.asList("id", "name", "firstName", "address")
+    );
+
+    private static final String INCLUDE_COMPETENCES = "competences";
+
+    private static final String INCLUDE_CATEGORY = "category";
+
+    private static final Set<String> ALLOWED_INCLUDES = Set.of(INCLUDE_COMPETENCES, INCLUDE_CATEGORY);
+
     private final Logger log = LoggerFactory.getLogger(EmployeeResource.class);
 
     private static final String ENTITY_NAME = "employee";
 
+    private static final String EXPORT_CONTENT_TYPE = "application/x-ndjson";
+
+    private static final String BULK_CSV_CONTENT_TYPE = "text/csv";
+
+    private static final String SEARCH_OPERATOR_AND = "and";
+
+    private static final String SEARCH_OPERATOR_OR = "or";
+
     @Value("${jhipster.clientApp.name}")
     private String applicationName;
 
     private final EmployeeRepository employeeRepository;
 
-    public EmployeeResource(EmployeeRepository employeeRepository) {
+    private final EmployeeExportService employeeExportService;
+
+    private final EmployeeImportService employeeImportService;
+
+    private final EmployeeDeletionService employeeDeletionService;
+
+    private final SkillIndexService skillIndexService;
+
+    private final FullTextSearchService fullTextSearchService;
+
+    private final EmployeeQueryService employeeQueryService;
+
+    private final EmployeeService employeeService;
+
+    public EmployeeResource(
+        EmployeeRepository employeeRepository,
+        EmployeeService employeeService,
+        EmployeeExportService employeeExportService,
+        EmployeeImportService employeeImportService,
+        EmployeeDeletionService employeeDeletionService,
+        SkillIndexService skillIndexService,
+        FullTextSearchService fullTextSearchService,
+        EmployeeQueryService employeeQueryService
+    ) {
         this.employeeRepository = employeeRepository;
+        this.employeeService = employeeService;
+        this.employeeQueryService = employeeQueryService;
+        this.employeeExportService = employeeExportService;
+        this.employeeImportService = employeeImportService;
+        this.employeeDeletionService = employeeDeletionService;
+        this.skillIndexService = skillIndexService;
+        this.fullTextSearchService = fullTextSearchService;
     }
 
     /**
@@ -58,20 +140,54 @@ public class EmployeeResource {
             .body(result);
     }
 
+    /**
+     * {@code POST  /employees/bulk} : Create new employees, with their competences, from a JSON array.
+     * <p>
+     * Rows are imported by chunks, each in its own transaction: invalid rows are reported and skipped,
+     * they do not abort the import.
+     *
+     * @param request the request, whose body is a JSON array of employees.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the result of the import.
+     * @throws IOException if the request body can't be read.
+     */
+    @PostMapping(value = "/employees/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ResponseEntity<BulkImportResultDTO> importEmployees(HttpServletRequest request) throws IOException {
+        log.debug("REST request to bulk import Employees from JSON");
+        return ResponseEntity.ok(employeeImportService.importJson(request.getInputStream()));
+    }
+
+    /**
+     * {@code POST  /employees/bulk} : Create new employees, with their competences, from a CSV document.
+     *
+     * @param request the request, whose body is a CSV document as described in {@link EmployeeImportService#importCsv}.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the result of the import.
+     * @throws IOException if the request body can't be read.
+     */
+    @PostMapping(value = "/employees/bulk", consumes = BULK_CSV_CONTENT_TYPE)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ResponseEntity<BulkImportResultDTO> importEmployeesFromCsv(HttpServletRequest request) throws IOException {
+        log.debug("REST request to bulk import Employees from CSV");
+        return ResponseEntity.ok(employeeImportService.importCsv(request.getReader()));
+    }
+
     /**
      * {@code PUT  /employees/:id} : Updates an existing employee.
      *
      * @param id the id of the employee to save.
      * @param employee the employee to update.
+     * @param ifMatch the {@code ETag} of the employee when the client read it, to update it only if it was not modified since.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the updated employee,
      * or with status {@code 400 (Bad Request)} if the employee is not valid,
+     * or with status {@code 412 (Precondition Failed)} if the employee was modified since it was read,
      * or with status {@code 500 (Internal Server Error)} if the employee couldn't be updated.
      * @throws URISyntaxException if the Location URI syntax is incorrect.
      */
     @PutMapping("/employees/{id}")
     public ResponseEntity<Employee> updateEmployee(
         @PathVariable(value = "id", required = false) final Long id,
-        @RequestBody Employee employee
+        @RequestBody Employee employee,
+        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
     ) throws URISyntaxException {
         log.debug("REST request to update Employee : {}, {}", id, employee);
         if (employee.getId() == null) {
@@ -81,13 +197,15 @@ public class EmployeeResource {
             throw new BadRequestAlertException("Invalid ID", ENTITY_NAME, "idinvalid");
         }
 
-        if (!employeeRepository.existsById(id)) {
-            throw new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound");
-        }
+        Employee existingEmployee = findForUpdate(id, ifMatch);
+        existingEmployee.setName(employee.getName());
+        existingEmployee.setFirstName(employee.getFirstName());
+        existingEmployee.setAddress(employee.getAddress());
 
-        Employee result = employeeRepository.save(employee);
+        Employee result = employeeRepository.saveAndFlush(existingEmployee);
         return ResponseEntity
             .ok()
+            .eTag(version(result).getETag())
             .headers(HeaderUtil.createEntityUpdateAlert(applicationName, false, ENTITY_NAME, employee.getId().toString()))
             .body(result);
     }
@@ -97,16 +215,18 @@ public class EmployeeResource {
      *
      * @param id the id of the employee to save.
      * @param employee the employee to update.
+     * @param ifMatch the {@code ETag} of the employee when the client read it, to update it only if it was not modified since.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the updated employee,
-     * or with status {@code 400 (Bad Request)} if the employee is not valid,
-     * or with status {@code 404 (Not Found)} if the employee is not found,
+     * or with status {@code 400 (Bad Request)} if the employee is not valid or not found,
+     * or with status {@code 412 (Precondition Failed)} if the employee was modified since it was read,
      * or with status {@code 500 (Internal Server Error)} if the employee couldn't be updated.
      * @throws URISyntaxException if the Location URI syntax is incorrect.
      */
     @PatchMapping(value = "/employees/{id}", consumes = { "application/json", "application/merge-patch+json" })
     public ResponseEntity<Employee> partialUpdateEmployee(
         @PathVariable(value = "id", required = false) final Long id,
-        @RequestBody Employee employee
+        @RequestBody Employee employee,
+        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
     ) throws URISyntaxException {
         log.debug("REST request to partial update Employee partially : {}, {}", id, employee);
         if (employee.getId() == null) {
@@ -116,70 +236,323 @@ public class EmployeeResource {
             throw new BadRequestAlertException("Invalid ID", ENTITY_NAME, "idinvalid");
         }
 
-        if (!employeeRepository.existsById(id)) {
-            throw new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound");
+        Employee existingEmployee = findForUpdate(id, ifMatch);
+        if (employee.getName() != null) {
+            existingEmployee.setName(employee.getName());
+        }
+        if (employee.getFirstName() != null) {
+            existingEmployee.setFirstName(employee.getFirstName());
+        }
+        if (employee.getAddress() != null) {
+            existingEmployee.setAddress(employee.getAddress());
         }
 
-        Optional<Employee> result = employeeRepository
-            .findById(employee.getId())
-            .map(existingEmployee -> {
-                if (employee.getName() != null) {
-                    existingEmployee.setName(employee.getName());
-                }
-                if (employee.getFirstName() != null) {
-                    existingEmployee.setFirstName(employee.getFirstName());
-                }
-                if (employee.getAddress() != null) {
-                    existingEmployee.setAddress(employee.getAddress());
-                }
+        Employee result = employeeRepository.saveAndFlush(existingEmployee);
+        return ResponseEntity
+            .ok()
+            .eTag(version(result).getETag())
+            .headers(HeaderUtil.createEntityUpdateAlert(applicationName, false, ENTITY_NAME, employee.getId().toString()))
+            .body(result);
+    }
 
-                return existingEmployee;
-            })
-            .map(employeeRepository::save);
+    /**
+     * Read the employee to update, with a single query unless it is in the second-level cache.
+     * <p>
+     * The update is then flushed with a version check, so that an employee modified by a concurrent transaction in
+     * between is not overwritten either: that transaction is rolled back with a {@code 409 (Conflict)}.
+     *
+     * @param id the id of the employee.
+     * @param ifMatch the {@code If-Match} header, if any.
+     * @return the managed employee.
+     */
+    private Employee findForUpdate(Long id, String ifMatch) {
+        Employee employee = employeeRepository
+            .findById(id)
+            .orElseThrow(() -> new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound"));
+        if (ifMatch != null && !version(employee).matches(ifMatch)) {
+            throw new PreconditionFailedAlertException("The employee was modified since it was read", ENTITY_NAME, "preconditionfailed");
+        }
+        return employee;
+    }
 
-        return ResponseUtil.wrapOrNotFound(
-            result,
-            HeaderUtil.createEntityUpdateAlert(applicationName, false, ENTITY_NAME, employee.getId().toString())
-        );
+    private static VersionDTO version(Employee employee) {
+        return VersionDTO.of(employee.getVersion(), employee.getLastModifiedDate());
     }
 
     /**
      * {@code GET  /employees} : get all the employees.
+     * <p>
+     * When {@code after} is given the employees are returned in keyset (seek) mode: only employees with an id greater
+     * than {@code after} are returned, ordered by id, without computing the total count. The {@code Link} header then
+     * only holds a {@code next} relation pointing to the following page, so that deep pages stay as cheap as the first one.
+     *
+     * <p>
+     * Competences are only returned when asked for with {@code include=competences}, and their categories with
+     * {@code include=competences,category}; they are then fetched for the whole page with a single extra query.
      *
+     * @param criteria the criteria which the requested entities should match.
+     * @param pageable the pagination information.
+     * @param after the id of the last employee of the previous page, to use keyset pagination.
+     * @param include the associations to fetch along with the employees.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of employees in body.
      */
     @GetMapping("/employees")
-    public List<Employee> getAllEmployees() {
-        log.debug("REST request to get all Employees");
-        return employeeRepository.findAll();
+    @Transactional(readOnly = true)
+    public ResponseEntity<List<EmployeeDTO>> getAllEmployees(
+        EmployeeCriteria criteria,
+        @org.springdoc.api.annotations.ParameterObject Pageable pageable,
+        @RequestParam(value = "after", required = false) Long after,
+        @RequestParam(value = "include", required = false) Set<String> include
+    ) {
+        log.debug("REST request to get a page of Employees by criteria: {}", criteria);
+        if (!onlyContainsAllowedProperties(pageable)) {
+            return ResponseEntity.badRequest().build();
+        }
+        if (after != null) {
+            return getEmployeesAfter(criteria, after, pageable.getPageSize(), include);
+        }
+
+        Page<EmployeeDTO> page = employeeQueryService.findByCriteria(criteria, pageable);
+        fetchIncludes(page.getContent(), include);
+        HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
+        return ResponseEntity.ok().headers(headers).body(page.getContent());
+    }
+
+    private ResponseEntity<List<EmployeeDTO>> getEmployeesAfter(EmployeeCriteria criteria, Long after, int size, Set<String> include) {
+        log.debug("REST request to get Employees after id : {}", after);
+        Slice<EmployeeDTO> slice = employeeQueryService.findByCriteriaAfter(criteria, after, size);
+        fetchIncludes(slice.getContent(), include);
+        HttpHeaders headers = new HttpHeaders();
+        if (slice.hasNext()) {
+            List<EmployeeDTO> content = slice.getContent();
+            String next = ServletUriComponentsBuilder
+                .fromCurrentRequest()
+                .replaceQueryParam("after", content.get(content.size() - 1).getId())
+                .replaceQueryParam("size", size)
+                .replaceQueryParam("page")
+                .replaceQueryParam("sort")
+                .toUriString();
+            headers.add(HttpHeaders.LINK, "<" + next + ">; rel=\"next\"");
+        }
+        return new ResponseEntity<>(slice.getContent(), headers, HttpStatus.OK);
+    }
+
+    /**
+     * {@code GET  /employees/count} : count all the employees.
+     *
+     * @param criteria the criteria which the requested entities should match.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the count in body.
+     */
+    @GetMapping("/employees/count")
+    @Transactional(readOnly = true)
+    public ResponseEntity<Long> countEmployees(EmployeeCriteria criteria) {
+        log.debug("REST request to count Employees by criteria: {}", criteria);
+        return ResponseEntity.ok().body(employeeQueryService.countByCriteria(criteria));
+    }
+
+    private boolean onlyContainsAllowedProperties(Pageable pageable) {
+        return pageable.getSort().stream().map(Sort.Order::getProperty).allMatch(ALLOWED_ORDERED_PROPERTIES::contains);
+    }
+
+    /**
+     * Set the requested associations of the employees, with a single query for all of them.
+     */
+    private void fetchIncludes(List<EmployeeDTO> employees, Set<String> include) {
+        if (checkIncludes(include)) {
+            employeeService.fetchCompetences(employees, include.contains(INCLUDE_CATEGORY));
+        }
+    }
+
+    /**
+     * @return {@code true} if associations are requested.
+     */
+    private static boolean checkIncludes(Set<String> include) {
+        if (include == null || include.isEmpty()) {
+            return false;
+        }
+        if (!ALLOWED_INCLUDES.containsAll(include)) {
+            throw new BadRequestAlertException("Invalid include, allowed values are " + ALLOWED_INCLUDES, ENTITY_NAME, "includeinvalid");
+        }
+        return true;
+    }
+
+    /**
+     * {@code GET  /employees/export} : export all the employees, with their competences and categories, as NDJSON.
+     *
+     * @param response the response the employees are streamed to, one JSON document per line.
+     * @throws IOException if the response can't be written to.
+     */
+    @GetMapping(value = "/employees/export", produces = EXPORT_CONTENT_TYPE)
+    @Transactional(readOnly = true)
+    public void exportEmployees(HttpServletResponse response) throws IOException {
+        log.debug("REST request to export all Employees");
+        response.setContentType(EXPORT_CONTENT_TYPE);
+        response.setCharacterEncoding("UTF-8");
+        employeeExportService.exportAsNdjson(response.getOutputStream());
+    }
+
+    /**
+     * {@code GET  /employees/search} : search the employees by skill.
+     * <p>
+     * Skills are given as {@code skill=name:minLevel}, e.g. {@code skill=java:4&skill=kubernetes:3}, the competence name
+     * being case-insensitive and the minimum level optional. Matching employees are found with the in-memory skill
+     * index, and returned by ascending id.
+     *
+     * @param skills the skills to look for.
+     * @param operator {@code and} if the employees must have all the skills, {@code or} if any is enough.
+     * @param pageable the pagination information, the sort is ignored.
+     * @param include the associations to fetch along with the employees.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of matching employees in body.
+     */
+    @GetMapping("/employees/search")
+    @Transactional(readOnly = true)
+    public ResponseEntity<List<EmployeeDTO>> searchEmployees(
+        @RequestParam("skill") List<String> skills,
+        @RequestParam(value = "operator", defaultValue = SEARCH_OPERATOR_AND) String operator,
+        @org.springdoc.api.annotations.ParameterObject Pageable pageable,
+        @RequestParam(value = "include", required = false) Set<String> include
+    ) {
+        log.debug("REST request to search Employees by skills : {}", skills);
+        if (!SEARCH_OPERATOR_AND.equalsIgnoreCase(operator) && !SEARCH_OPERATOR_OR.equalsIgnoreCase(operator)) {
+            throw new BadRequestAlertException("Invalid operator, allowed values are and, or", ENTITY_NAME, "operatorinvalid");
+        }
+        List<SkillCriterion> criteria;
+        try {
+            criteria = skills.stream().map(SkillCriterion::parse).collect(Collectors.toList());
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestAlertException(e.getMessage(), ENTITY_NAME, "skillinvalid");
+        }
+
+        long[] employeeIds = skillIndexService.search(criteria, SEARCH_OPERATOR_AND.equalsIgnoreCase(operator));
+        int from = (int) Math.min(pageable.getOffset(), employeeIds.length);
+        int to = (int) Math.min((long) from + pageable.getPageSize(), employeeIds.length);
+        List<Long> pageIds = Arrays.stream(employeeIds, from, to).boxed().collect(Collectors.toList());
+        List<EmployeeDTO> employees = employeeService.findAllById(pageIds);
+        fetchIncludes(employees, include);
+        Page<EmployeeDTO> page = new PageImpl<>(employees, pageable, employeeIds.length);
+        HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
+        return ResponseEntity.ok().headers(headers).body(page.getContent());
+    }
+
+    /**
+     * {@code GET  /_search/employees?q=:query} : full-text search of the employees, by name, first name, address and
+     * competence names.
+     *
+     * @param query the query, in the simple query string syntax.
+     * @param pageable the pagination information, results being sorted by relevance.
+     * @param include the associations to fetch along with the employees.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of matching employees in body.
+     */
+    @GetMapping("/_search/employees")
+    @Transactional(readOnly = true)
+    public ResponseEntity<List<EmployeeDTO>> fullTextSearchEmployees(
+        @RequestParam("q") String query,
+        @org.springdoc.api.annotations.ParameterObject Pageable pageable,
+        @RequestParam(value = "include", required = false) Set<String> include
+    ) {
+        log.debug("REST request to search for a page of Employees for query {}", query);
+        if (query.isBlank()) {
+            throw new BadRequestAlertException("The query cannot be blank", ENTITY_NAME, "queryblank");
+        }
+        Page<Long> ids = fullTextSearchService.searchEmployeeIds(query, pageable);
+        Page<EmployeeDTO> page = new PageImpl<>(employeeService.findAllById(ids.getContent()), pageable, ids.getTotalElements());
+        fetchIncludes(page.getContent(), include);
+        HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
+        return ResponseEntity.ok().headers(headers).body(page.getContent());
     }
 
     /**
      * {@code GET  /employees/:id} : get the "id" employee.
+     * <p>
+     * The response has an {@code ETag} and a {@code Last-Modified} header, which also take into account the included
+     * associations: {@code If-None-Match} and {@code If-Modified-Since} requests are answered with {@code 304 (Not Modified)}
+     * from the modification dates only, without reading the employee.
      *
      * @param id the id of the employee to retrieve.
-     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the employee, or with status {@code 404 (Not Found)}.
+     * @param include the associations to fetch along with the employee.
+     * @param webRequest the request, holding the conditional headers.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the employee, or with status {@code 304 (Not Modified)},
+     * or with status {@code 404 (Not Found)}.
      */
     @GetMapping("/employees/{id}")
-    public ResponseEntity<Employee> getEmployee(@PathVariable Long id) {
+    @Transactional(readOnly = true)
+    public ResponseEntity<EmployeeDTO> getEmployee(
+        @PathVariable Long id,
+        @RequestParam(value = "include", required = false) Set<String> include,
+        WebRequest webRequest
+    ) {
         log.debug("REST request to get Employee : {}", id);
-        Optional<Employee> employee = employeeRepository.findById(id);
+        boolean withCompetences = checkIncludes(include);
+        boolean withCategories = withCompetences && include.contains(INCLUDE_CATEGORY);
+        Optional<VersionDTO> version = employeeService.findVersion(id, withCompetences, withCategories);
+        if (
+            version.isPresent() &&
+            webRequest.checkNotModified(version.get().getETag(), version.get().getLastModified().toEpochMilli())
+        ) {
+            // the status and the validators are already set on the response
+            return null;
+        }
+        Optional<EmployeeDTO> employee = employeeService.findOne(id);
+        employee.ifPresent(e -> fetchIncludes(List.of(e), include));
         return ResponseUtil.wrapOrNotFound(employee);
     }
 
     /**
-     * {@code DELETE  /employees/:id} : delete the "id" employee.
+     * {@code DELETE  /employees/:id} : delete the "id" employee, with its competences.
      *
      * @param id the id of the employee to delete.
-     * @return the {@link ResponseEntity} with status {@code 204 (NO_CONTENT)}.
+     * @return the {@link ResponseEntity} with status {@code 204 (NO_CONTENT)}, or with status {@code 404 (Not Found)}.
      */
     @DeleteMapping("/employees/{id}")
     public ResponseEntity<Void> deleteEmployee(@PathVariable Long id) {
         log.debug("REST request to delete Employee : {}", id);
-        employeeRepository.deleteById(id);
+        if (!employeeDeletionService.delete(id)) {
+            // as ResponseUtil.wrapOrNotFound
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND);
+        }
         return ResponseEntity
             .noContent()
             .headers(HeaderUtil.createEntityDeletionAlert(applicationName, false, ENTITY_NAME, id.toString()))
             .build();
     }
+
+    /**
+     * {@code DELETE  /employees} : delete the employees matching the criteria, with their competences; a list of ids
+     * is given with {@code id.in}.
+     * <p>
+     * Up to {@link EmployeeDeletionService#CHUNK_SIZE} employees are deleted in the request; more employees are
+     * deleted in the background, chunk by chunk, and the progress of the deletion is given by
+     * {@code GET  /employees/deletions/:id}.
+     *
+     * @param criteria the criteria which the employees to delete should match, at least one being required.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the finished deletion,
+     * or with status {@code 202 (Accepted)} and with body the running deletion,
+     * or with status {@code 400 (Bad Request)} if there are no criteria.
+     * @throws URISyntaxException if the Location URI syntax is incorrect.
+     */
+    @DeleteMapping("/employees")
+    public ResponseEntity<BulkDeletionDTO> deleteEmployees(EmployeeCriteria criteria) throws URISyntaxException {
+        log.debug("REST request to delete Employees by criteria: {}", criteria);
+        if (new EmployeeCriteria().equals(criteria)) {
+            throw new BadRequestAlertException("At least one criterion is required to delete employees", ENTITY_NAME, "criteriaempty");
+        }
+        BulkDeletionDTO deletion = employeeDeletionService.delete(criteria);
+        if (deletion.getStatus() == BulkDeletionDTO.Status.RUNNING) {
+            return ResponseEntity.accepted().location(new URI("/api/employees/deletions/" + deletion.getId())).body(deletion);
+        }
+        return ResponseEntity.ok(deletion);
+    }
+
+    /**
+     * {@code GET  /employees/deletions/:id} : get the progress of the "id" deletion of employees.
+     *
+     * @param id the id of the deletion.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the deletion, or with status {@code 404 (Not Found)}.
+     */
+    @GetMapping("/employees/deletions/{id}")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ResponseEntity<BulkDeletionDTO> getDeletion(@PathVariable String id) {
+        log.debug("REST request to get Employee deletion : {}", id);
+        return ResponseUtil.wrapOrNotFound(employeeDeletionService.findDeletion(id));
+    }
 }
@@ -0,0 +1,114 @@
+package com.mycompany.myapp.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import javax.sql.DataSource;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Tests for {@link ReplicaRoutingDataSource}, with two in-memory H2 databases as primary and replica.
+ */
+class ReplicaRoutingDataSourceTest {
+
+    private static final String PRIMARY_URL = "jdbc:h2:mem:replica-routing-primary";
+
+    private static final String REPLICA_URL = "jdbc:h2:mem:replica-routing-replica";
+
+    /**
+     * Keeps the in-memory databases between connections.
+     */
+    private static final String KEEP_OPEN = ";DB_CLOSE_DELAY=-1";
+
+    private static final String UNREACHABLE_URL = "jdbc:h2:tcp://localhost:1/replica-routing-unreachable";
+
+    private JdbcDataSource replica;
+
+    private ApplicationProperties.Replica properties;
+
+    private ReplicaRoutingDataSource routingDataSource;
+
+    @BeforeEach
+    public void setup() {
+        replica = h2DataSource(REPLICA_URL);
+        properties = new ApplicationProperties.Replica();
+        properties.setLagCheckInterval(Duration.ZERO);
+        properties.setMaxLag(Duration.ofSeconds(5));
+    }
+
+    @AfterEach
+    public void tearDown() throws Exception {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        routingDataSource.close();
+    }
+
+    @Test
+    void readOnlyTransactionsShouldUseReplica() throws SQLException {
+        routingDataSource = new ReplicaRoutingDataSource(h2DataSource(PRIMARY_URL), replica, properties);
+
+        assertThat(connectionUrl(routingDataSource)).startsWith(PRIMARY_URL);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        assertThat(connectionUrl(routingDataSource)).startsWith(REPLICA_URL);
+    }
+
+    @Test
+    void lazyProxyShouldRouteOnFirstStatement() throws SQLException {
+        routingDataSource = new ReplicaRoutingDataSource(h2DataSource(PRIMARY_URL), replica, properties);
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+
+        try (Connection connection = dataSource.getConnection()) {
+            // the transaction is flagged as read-only after the transaction manager got its connection
+            TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+            assertThat(connection.getMetaData().getURL()).startsWith(REPLICA_URL);
+        }
+    }
+
+    @Test
+    void readsShouldFallBackToPrimaryWhenReplicaIsUnavailable() throws SQLException {
+        replica.setURL(UNREACHABLE_URL);
+        properties.setRetryInterval(Duration.ofMinutes(1));
+        properties.setLagQuery("SELECT 0");
+        routingDataSource = new ReplicaRoutingDataSource(h2DataSource(PRIMARY_URL), replica, properties);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertThat(connectionUrl(routingDataSource)).startsWith(PRIMARY_URL);
+        assertThat(routingDataSource.isReplicaUsable()).isFalse();
+
+        // the replica is skipped until the retry interval is over, or a lag check succeeds
+        replica.setURL(REPLICA_URL + KEEP_OPEN);
+        assertThat(connectionUrl(routingDataSource)).startsWith(PRIMARY_URL);
+        routingDataSource.checkLag();
+        assertThat(connectionUrl(routingDataSource)).startsWith(REPLICA_URL);
+    }
+
+    @Test
+    void readsShouldUsePrimaryWhileReplicaIsLagging() throws SQLException {
+        properties.setLagQuery("SELECT 10");
+        routingDataSource = new ReplicaRoutingDataSource(h2DataSource(PRIMARY_URL), replica, properties);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        routingDataSource.checkLag();
+
+        assertThat(routingDataSource.isReplicaUsable()).isFalse();
+        assertThat(connectionUrl(routingDataSource)).startsWith(PRIMARY_URL);
+    }
+
+    private static JdbcDataSource h2DataSource(String url) {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL(url + KEEP_OPEN);
+        return dataSource;
+    }
+
+    private static String connectionUrl(DataSource dataSource) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            return connection.getMetaData().getURL();
+        }
+    }
+}
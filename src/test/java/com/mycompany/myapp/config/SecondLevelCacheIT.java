@@ -0,0 +1,149 @@
+package com.mycompany.myapp.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.mycompany.myapp.IntegrationTest;
+import com.mycompany.myapp.domain.Category;
+import com.mycompany.myapp.domain.Competence;
+import com.mycompany.myapp.domain.Employee;
+import com.mycompany.myapp.repository.CategoryRepository;
+import com.mycompany.myapp.repository.EmployeeRepository;
+import com.mycompany.myapp.repository.UserRepository;
+import javax.cache.CacheManager;
+import javax.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Integration tests for the Hibernate second-level cache regions created by the {@link CacheConfiguration}, the cache
+ * being disabled in the other tests.
+ */
+@IntegrationTest
+@AutoConfigureMockMvc
+@WithMockUser
+@TestPropertySource(
+    properties = {
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=true",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+    }
+)
+class SecondLevelCacheIT {
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private MockMvc restMockMvc;
+
+    private TransactionTemplate transactionTemplate;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    public void setup() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @Test
+    void regionsShouldBeCreated() {
+        assertThat(cacheManager.getCache(UserRepository.USERS_BY_LOGIN_CACHE)).isNotNull();
+        assertThat(cacheManager.getCache(UserRepository.USERS_BY_EMAIL_CACHE)).isNotNull();
+        assertThat(cacheManager.getCache(Employee.class.getName())).isNotNull();
+        assertThat(cacheManager.getCache(Employee.class.getName() + ".competences")).isNotNull();
+        assertThat(cacheManager.getCache(Category.class.getName())).isNotNull();
+        assertThat(cacheManager.getCache(Category.class.getName() + ".competences")).isNotNull();
+        assertThat(cacheManager.getCache(Competence.class.getName())).isNotNull();
+    }
+
+    @Test
+    void employeeReadsShouldHitTheCache() throws Exception {
+        Employee employee = transactionTemplate.execute(status -> employeeRepository.saveAndFlush(new Employee().name("cached")));
+        try {
+            entityManagerFactory.getCache().evict(Employee.class);
+            restMockMvc.perform(get("/api/employees/{id}", employee.getId())).andExpect(status().isOk());
+            assertThat(entityManagerFactory.getCache().contains(Employee.class, employee.getId())).isTrue();
+
+            long hits = hitCount(Employee.class);
+            restMockMvc
+                .perform(get("/api/employees/{id}", employee.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value("cached"));
+            assertThat(hitCount(Employee.class)).isGreaterThan(hits);
+
+            // an update replaces the cached entry, which is never read stale
+            transactionTemplate.executeWithoutResult(status ->
+                employeeRepository.findById(employee.getId()).orElseThrow().setName("updated")
+            );
+            restMockMvc
+                .perform(get("/api/employees/{id}", employee.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value("updated"));
+        } finally {
+            restMockMvc.perform(delete("/api/employees/{id}", employee.getId())).andExpect(status().isNoContent());
+        }
+        // the deletion evicts the entry of the employee
+        assertThat(entityManagerFactory.getCache().contains(Employee.class, employee.getId())).isFalse();
+    }
+
+    @Test
+    void categoryReadsShouldHitTheCache() throws Exception {
+        Category category = transactionTemplate.execute(status -> categoryRepository.saveAndFlush(new Category().name("cached")));
+        try {
+            entityManagerFactory.getCache().evict(Category.class);
+            restMockMvc.perform(get("/api/categories/{id}", category.getId())).andExpect(status().isOk());
+
+            long hits = hitCount(Category.class);
+            restMockMvc
+                .perform(get("/api/categories/{id}", category.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value("cached"));
+            assertThat(hitCount(Category.class)).isGreaterThan(hits);
+
+            hits = hitCount(Category.class);
+            restMockMvc.perform(get("/api/categories")).andExpect(status().isOk());
+            assertThat(hitCount(Category.class)).isGreaterThan(hits);
+
+            transactionTemplate.executeWithoutResult(status ->
+                categoryRepository.findById(category.getId()).orElseThrow().setName("updated")
+            );
+            restMockMvc
+                .perform(get("/api/categories/{id}", category.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value("updated"));
+        } finally {
+            transactionTemplate.executeWithoutResult(status -> categoryRepository.deleteById(category.getId()));
+        }
+        assertThat(entityManagerFactory.getCache().contains(Category.class, category.getId())).isFalse();
+    }
+
+    private long hitCount(Class<?> entityClass) {
+        return statistics.getDomainDataRegionStatistics(entityClass.getName()).getHitCount();
+    }
+}
@@ -0,0 +1,100 @@
+package com.mycompany.myapp.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assumptions.assumeThat;
+
+import com.mycompany.myapp.IntegrationTest;
+import java.sql.Connection;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Integration tests checking that the query plans of the frequent employee and competence queries use the indexes
+ * of the Liquibase changelog. Run with the {@code testcontainers} profile to also check the PostgreSQL trigram indexes.
+ */
+@IntegrationTest
+@Transactional
+class DatabaseIndexesIT {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private boolean postgresql;
+
+    @BeforeEach
+    public void setup() {
+        postgresql =
+            "PostgreSQL".equals(
+                jdbcTemplate.execute((Connection connection) ->
+                    JdbcUtils.commonDatabaseName(connection.getMetaData().getDatabaseProductName())
+                )
+            );
+        if (postgresql) {
+            // the test tables are tiny, a sequential scan would always be cheaper
+            jdbcTemplate.execute("SET LOCAL enable_seqscan = off");
+        }
+    }
+
+    @Test
+    void competencesByEmployeeShouldUseIndex() {
+        assertUsesIndex("select id, name, level from competence where employee_id = 1", "idx_competence__employee_id");
+    }
+
+    @Test
+    void competencesByCategoryShouldUseIndex() {
+        assertUsesIndex("select id, name, level from competence where category_id = 1", "idx_competence__category_id");
+    }
+
+    @Test
+    void competencesByNameAndLevelShouldUseIndex() {
+        String plan = explain("select employee_id from competence where name = 'java' and level >= 3");
+
+        assertThat(plan).containsIgnoringCase("idx_competence__name_level");
+    }
+
+    @Test
+    void employeesByNameShouldUseIndex() {
+        String plan = explain("select id from employee where name = 'Dupont'");
+
+        assertThat(plan).containsIgnoringCase("idx_employee__name");
+    }
+
+    @Test
+    void employeesByNameContainsShouldUseTrigramIndex() {
+        assumeThat(postgresql).as("trigram indexes are only created on PostgreSQL").isTrue();
+
+        String plan = explain("select id from employee where upper(name) like '%UPON%'");
+
+        assertThat(plan).contains("idx_employee__name_upper_trgm");
+    }
+
+    @Test
+    void competencesByNameContainsShouldUseTrigramIndex() {
+        assumeThat(postgresql).as("trigram indexes are only created on PostgreSQL").isTrue();
+
+        String plan = explain("select id from competence where upper(name) like '%JAVA%'");
+
+        assertThat(plan).contains("idx_competence__name_upper_trgm");
+    }
+
+    /**
+     * H2 creates its own index for every foreign key, so it may pick that one instead: only a full scan is a failure.
+     */
+    private void assertUsesIndex(String sql, String index) {
+        String plan = explain(sql);
+        if (postgresql) {
+            assertThat(plan).contains(index);
+        } else {
+            assertThat(plan).doesNotContainIgnoringCase("tableScan");
+        }
+    }
+
+    private String explain(String sql) {
+        return jdbcTemplate.queryForList("EXPLAIN " + sql, String.class).stream().collect(Collectors.joining("\n"));
+    }
+}
@@ -0,0 +1,36 @@
+package com.mycompany.myapp.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.GrantedAuthority;
+
+/**
+ * Test class for the {@link GrantedAuthorityRegistry} utility class.
+ */
+class GrantedAuthorityRegistryTest {
+
+    @Test
+    void testKnownAuthoritiesAreShared() {
+        assertThat(GrantedAuthorityRegistry.of(AuthoritiesConstants.ADMIN)).isSameAs(GrantedAuthorityRegistry.of(AuthoritiesConstants.ADMIN));
+        assertThat(GrantedAuthorityRegistry.of(AuthoritiesConstants.USER).getAuthority()).isEqualTo(AuthoritiesConstants.USER);
+    }
+
+    @Test
+    void testFromClaim() {
+        List<GrantedAuthority> authorities = GrantedAuthorityRegistry.fromClaim(AuthoritiesConstants.ADMIN + ",," + AuthoritiesConstants.USER);
+
+        assertThat(authorities).extracting(GrantedAuthority::getAuthority).containsExactly(AuthoritiesConstants.ADMIN, AuthoritiesConstants.USER);
+        assertThat(authorities.get(0)).isSameAs(GrantedAuthorityRegistry.of(AuthoritiesConstants.ADMIN));
+        assertThat(GrantedAuthorityRegistry.fromClaim(AuthoritiesConstants.ADMIN + ",," + AuthoritiesConstants.USER)).isSameAs(authorities);
+        assertThatThrownBy(() -> authorities.add(GrantedAuthorityRegistry.of(AuthoritiesConstants.ANONYMOUS)))
+            .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void testEmptyClaim() {
+        assertThat(GrantedAuthorityRegistry.fromClaim("")).isEmpty();
+    }
+}
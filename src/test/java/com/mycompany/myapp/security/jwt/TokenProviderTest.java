@@ -88,6 +88,27 @@ class TokenProviderTest {
         assertThat(isTokenValid).isFalse();
     }
 
+    @Test
+    void testResolveAuthenticationOfValidToken() {
+        Authentication authentication = createAuthentication();
+        String token = tokenProvider.createToken(authentication, false);
+
+        Optional<Authentication> first = tokenProvider.resolveAuthentication(token);
+        Optional<Authentication> second = tokenProvider.resolveAuthentication(token);
+
+        assertThat(first).isPresent();
+        assertThat(second).isPresent();
+        assertThat(second.get()).isNotSameAs(first.get());
+        assertThat(second.get().getName()).isEqualTo("anonymous");
+        assertThat(second.get().getCredentials()).hasToString(token);
+        assertThat(second.get().getAuthorities()).extracting(GrantedAuthority::getAuthority).containsExactly(AuthoritiesConstants.ANONYMOUS);
+    }
+
+    @Test
+    void testResolveAuthenticationOfInvalidToken() {
+        assertThat(tokenProvider.resolveAuthentication(createTokenWithDifferentSignature())).isEmpty();
+    }
+
     @Test
     void testKeyIsSetFromSecretWhenSecretIsNotEmpty() {
         final String secret = "NwskoUmKHZtzGRKJKVjsJF7BtQMMxNWi";
@@ -0,0 +1,81 @@
+package com.mycompany.myapp.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.mycompany.myapp.IntegrationTest;
+import com.mycompany.myapp.domain.Category;
+import com.mycompany.myapp.repository.CategoryRepository;
+import com.mycompany.myapp.service.dto.OutboxEventDTO;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Integration tests for the {@link OutboxService} and the {@link OutboxRelay}, with the {@link InMemoryOutboxPublisher}.
+ */
+@IntegrationTest
+class OutboxIT {
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private OutboxRelay outboxRelay;
+
+    @Autowired
+    private InMemoryOutboxPublisher publisher;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    public void setup() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        outboxRelay.relay();
+        publisher.clear();
+    }
+
+    @Test
+    void committedChangesShouldBeRelayed() {
+        Category category = transactionTemplate.execute(status -> categoryRepository.saveAndFlush(new Category().name("outbox")));
+        transactionTemplate.executeWithoutResult(status -> {
+            Category existing = categoryRepository.findById(category.getId()).orElseThrow();
+            existing.setName("outbox updated");
+        });
+        transactionTemplate.executeWithoutResult(status -> categoryRepository.deleteById(category.getId()));
+
+        assertThat(outboxRelay.relay()).isEqualTo(3);
+
+        List<OutboxEventDTO> events = publisher
+            .getEvents()
+            .stream()
+            .filter(event -> "Category".equals(event.getAggregateType()) && category.getId().equals(event.getAggregateId()))
+            .collect(Collectors.toList());
+        assertThat(events)
+            .extracting(OutboxEventDTO::getType)
+            .containsExactly(OutboxEventDTO.Type.CREATED, OutboxEventDTO.Type.UPDATED, OutboxEventDTO.Type.DELETED);
+        assertThat(events.get(1).getPayload()).contains("\"name\":\"outbox updated\"");
+        assertThat(jdbcTemplate.queryForObject("select count(*) from outbox_event", Long.class)).isZero();
+    }
+
+    @Test
+    void rolledBackChangesShouldNotBeWritten() {
+        transactionTemplate.executeWithoutResult(status -> {
+            categoryRepository.saveAndFlush(new Category().name("outbox"));
+            status.setRollbackOnly();
+        });
+
+        assertThat(jdbcTemplate.queryForObject("select count(*) from outbox_event", Long.class)).isZero();
+        assertThat(outboxRelay.relay()).isZero();
+    }
+}
@@ -7,7 +7,12 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 import com.mycompany.myapp.IntegrationTest;
 import com.mycompany.myapp.domain.Category;
+import com.mycompany.myapp.domain.Competence;
+import com.mycompany.myapp.domain.Employee;
 import com.mycompany.myapp.repository.CategoryRepository;
+import com.mycompany.myapp.repository.CompetenceRepository;
+import com.mycompany.myapp.repository.EmployeeRepository;
+import com.mycompany.myapp.service.CompetenceIndexService;
 import java.util.List;
 import java.util.Random;
 import java.util.concurrent.atomic.AtomicLong;
@@ -16,10 +21,13 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 /**
  * Integration tests for the {@link CategoryResource} REST controller.
@@ -41,6 +49,18 @@ class CategoryResourceIT {
     @Autowired
     private CategoryRepository categoryRepository;
 
+    @Autowired
+    private CompetenceRepository competenceRepository;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private CompetenceIndexService competenceIndexService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
     @Autowired
     private EntityManager em;
 
@@ -125,6 +145,34 @@ class CategoryResourceIT {
             .andExpect(jsonPath("$.[*].name").value(hasItem(DEFAULT_NAME)));
     }
 
+    @Test
+    @Transactional
+    void getAllCategoriesNotModified() throws Exception {
+        // Initialize the database
+        categoryRepository.saveAndFlush(category);
+
+        String eTag = restCategoryMockMvc
+            .perform(get(ENTITY_API_URL))
+            .andExpect(status().isOk())
+            .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+            .andReturn()
+            .getResponse()
+            .getHeader(HttpHeaders.ETAG);
+
+        restCategoryMockMvc
+            .perform(get(ENTITY_API_URL).header(HttpHeaders.IF_NONE_MATCH, eTag))
+            .andExpect(status().isNotModified())
+            .andExpect(content().string(""));
+
+        // Adding a category changes the list
+        categoryRepository.saveAndFlush(createUpdatedEntity(em));
+
+        restCategoryMockMvc
+            .perform(get(ENTITY_API_URL).header(HttpHeaders.IF_NONE_MATCH, eTag))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.[*].name").value(hasItem(UPDATED_NAME)));
+    }
+
     @Test
     @Transactional
     void getCategory() throws Exception {
@@ -140,6 +188,101 @@ class CategoryResourceIT {
             .andExpect(jsonPath("$.name").value(DEFAULT_NAME));
     }
 
+    @Test
+    @Transactional
+    void getAllCategoryStatistics() throws Exception {
+        // Initialize the database, the test transaction is not committed so competences are indexed explicitly
+        categoryRepository.saveAndFlush(category);
+        Category emptyCategory = categoryRepository.saveAndFlush(createEntity(em));
+        Employee first = EmployeeResourceIT.createEntity(em);
+        Employee second = EmployeeResourceIT.createEntity(em);
+        List<Competence> competences = List.of(
+            new Competence().name("A").level(1).category(category),
+            new Competence().name("B").level(3).category(category),
+            new Competence().name("A").level(5).category(category),
+            new Competence().name("C").category(category)
+        );
+        first.addCompetence(competences.get(0)).addCompetence(competences.get(1));
+        second.addCompetence(competences.get(2)).addCompetence(competences.get(3));
+        em.persist(first);
+        em.persist(second);
+        competences.forEach(em::persist);
+        em.flush();
+        competences.forEach(competenceIndexService::index);
+
+        try {
+            String statistics = "$.[?(@.categoryId == " + category.getId() + ")]";
+            restCategoryMockMvc
+                .perform(get(ENTITY_API_URL + "/statistics"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath(statistics + ".categoryName").value(DEFAULT_NAME))
+                .andExpect(jsonPath(statistics + ".competences").value(4))
+                .andExpect(jsonPath(statistics + ".employees").value(2))
+                .andExpect(jsonPath(statistics + ".averageLevel").value(3.0))
+                .andExpect(jsonPath(statistics + ".minLevel").value(1))
+                .andExpect(jsonPath(statistics + ".medianLevel").value(3))
+                .andExpect(jsonPath(statistics + ".percentile90Level").value(5))
+                .andExpect(jsonPath(statistics + ".maxLevel").value(5))
+                .andExpect(jsonPath("$.[?(@.categoryId == " + emptyCategory.getId() + ")].competences").value(0));
+
+            // the statistics are updated incrementally
+            competenceIndexService.remove(competences.get(2).getId());
+            restCategoryMockMvc
+                .perform(get(ENTITY_API_URL + "/statistics"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath(statistics + ".competences").value(3))
+                .andExpect(jsonPath(statistics + ".averageLevel").value(2.0))
+                .andExpect(jsonPath(statistics + ".maxLevel").value(3));
+        } finally {
+            competences.forEach(competence -> competenceIndexService.remove(competence.getId()));
+        }
+    }
+
+    @Test
+    void getCategoryStatisticsOfCommittedCompetences() throws Exception {
+        // Initialize the database in committed transactions, the competences being indexed by the post-commit listeners
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        Category committedCategory = transactionTemplate.execute(status -> categoryRepository.saveAndFlush(createEntity(em)));
+        Employee employee = transactionTemplate.execute(status -> employeeRepository.saveAndFlush(EmployeeResourceIT.createEntity(em)));
+        List<Competence> competences = transactionTemplate.execute(status ->
+            competenceRepository.saveAllAndFlush(
+                List.of(
+                    new Competence().name("A").level(2).category(committedCategory).employee(employee),
+                    // competences without an employee or a name are categorized all the same
+                    new Competence().name("B").level(4).category(committedCategory),
+                    new Competence().level(6).category(committedCategory).employee(employee)
+                )
+            )
+        );
+
+        try {
+            String statistics = "$.[?(@.categoryId == " + committedCategory.getId() + ")]";
+            restCategoryMockMvc
+                .perform(get(ENTITY_API_URL + "/statistics"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath(statistics + ".competences").value(3))
+                .andExpect(jsonPath(statistics + ".employees").value(1))
+                .andExpect(jsonPath(statistics + ".averageLevel").value(4.0))
+                .andExpect(jsonPath(statistics + ".maxLevel").value(6));
+
+            transactionTemplate.executeWithoutResult(status -> competenceRepository.deleteById(competences.get(2).getId()));
+            restCategoryMockMvc
+                .perform(get(ENTITY_API_URL + "/statistics"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath(statistics + ".competences").value(2))
+                .andExpect(jsonPath(statistics + ".averageLevel").value(3.0))
+                .andExpect(jsonPath(statistics + ".maxLevel").value(4));
+        } finally {
+            transactionTemplate.executeWithoutResult(status -> {
+                competences.forEach(competence ->
+                    competenceRepository.findById(competence.getId()).ifPresent(competenceRepository::delete)
+                );
+                employeeRepository.deleteById(employee.getId());
+                categoryRepository.deleteById(committedCategory.getId());
+            });
+        }
+    }
+
     @Test
     @Transactional
     void getNonExistingCategory() throws Exception {
@@ -0,0 +1,98 @@
+package com.mycompany.myapp.web.rest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+import com.mycompany.myapp.IntegrationTest;
+import com.mycompany.myapp.domain.Employee;
+import com.mycompany.myapp.repository.EmployeeRepository;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Integration tests for the {@link ChangeFeedResource} REST controller.
+ */
+@IntegrationTest
+@AutoConfigureMockMvc
+@WithMockUser
+class ChangeFeedResourceIT {
+
+    private static final long TIMEOUT_MILLIS = TimeUnit.SECONDS.toMillis(5);
+
+    private static final long QUIET_MILLIS = 500;
+
+    private static final Pattern RESET_ID = Pattern.compile("id:(\\d+)\nevent:reset");
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private MockMvc restChangeFeedMockMvc;
+
+    @Test
+    void committedChangesShouldBeStreamed() throws Exception {
+        MvcResult result = restChangeFeedMockMvc
+            .perform(get("/api/changes/stream").accept(MediaType.TEXT_EVENT_STREAM))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        Employee employee = transactionTemplate.execute(status -> employeeRepository.saveAndFlush(EmployeeResourceIT.createEntity(null)));
+        try {
+            String expected = "\"entity\":\"Employee\",\"id\":" + employee.getId() + ",\"type\":\"CREATED\",\"version\":0";
+            long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+            while (!result.getResponse().getContentAsString().contains(expected) && System.currentTimeMillis() < deadline) {
+                Thread.sleep(20);
+            }
+            assertThat(result.getResponse().getContentAsString()).contains("event:change").contains(expected);
+        } finally {
+            result.getRequest().getAsyncContext().complete();
+            transactionTemplate.executeWithoutResult(status -> employeeRepository.deleteById(employee.getId()));
+        }
+    }
+
+    @Test
+    void reconnectionAfterMissedChangesShouldStartWithReset() throws Exception {
+        MvcResult result = restChangeFeedMockMvc
+            .perform(get("/api/changes/stream").header("Last-Event-ID", "-1").accept(MediaType.TEXT_EVENT_STREAM))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+        try {
+            long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+            while (!result.getResponse().getContentAsString().contains("event:reset") && System.currentTimeMillis() < deadline) {
+                Thread.sleep(20);
+            }
+            assertThat(result.getResponse().getContentAsString()).contains("event:reset");
+        } finally {
+            result.getRequest().getAsyncContext().complete();
+        }
+
+        // Reconnecting with the id of the reset, without any change since, must not reset again
+        Matcher resetId = RESET_ID.matcher(result.getResponse().getContentAsString());
+        assertThat(resetId.find()).isTrue();
+        MvcResult reconnected = restChangeFeedMockMvc
+            .perform(get("/api/changes/stream").header("Last-Event-ID", resetId.group(1)).accept(MediaType.TEXT_EVENT_STREAM))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+        try {
+            Thread.sleep(QUIET_MILLIS);
+            assertThat(reconnected.getResponse().getContentAsString()).doesNotContain("event:reset");
+        } finally {
+            reconnected.getRequest().getAsyncContext().complete();
+        }
+    }
+}
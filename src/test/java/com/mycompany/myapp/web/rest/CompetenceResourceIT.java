@@ -1,13 +1,20 @@
 package com.mycompany.myapp.web.rest;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.hasItem;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 import com.mycompany.myapp.IntegrationTest;
+import com.mycompany.myapp.domain.Category;
 import com.mycompany.myapp.domain.Competence;
+import com.mycompany.myapp.domain.Employee;
+import com.mycompany.myapp.repository.CategoryRepository;
 import com.mycompany.myapp.repository.CompetenceRepository;
+import com.mycompany.myapp.repository.EmployeeRepository;
+import com.mycompany.myapp.service.CompetenceIndexService;
+import com.mycompany.myapp.service.dto.CompetenceLevelDTO;
 import java.util.List;
 import java.util.Random;
 import java.util.concurrent.atomic.AtomicLong;
@@ -16,10 +23,13 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 /**
  * Integration tests for the {@link CompetenceResource} REST controller.
@@ -44,6 +54,18 @@ class CompetenceResourceIT {
     @Autowired
     private CompetenceRepository competenceRepository;
 
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private CompetenceIndexService competenceIndexService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
     @Autowired
     private EntityManager em;
 
@@ -130,6 +152,36 @@ class CompetenceResourceIT {
             .andExpect(jsonPath("$.[*].level").value(hasItem(DEFAULT_LEVEL)));
     }
 
+    @Test
+    @Transactional
+    void getAllCompetencesByLevelAndCategory() throws Exception {
+        // Initialize the database
+        Category category = CategoryResourceIT.createEntity(em);
+        em.persist(category);
+        competence.setCategory(category);
+        competenceRepository.saveAndFlush(competence);
+        String filter = "?id.equals=" + competence.getId() + "&categoryId.equals=" + category.getId();
+
+        restCompetenceMockMvc
+            .perform(get(ENTITY_API_URL + filter + "&level.greaterThanOrEqual=" + DEFAULT_LEVEL))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.[*].id").value(contains(competence.getId().intValue())))
+            .andExpect(jsonPath("$.[0].category.id").value(category.getId().intValue()));
+        restCompetenceMockMvc
+            .perform(get(ENTITY_API_URL + "/count" + filter + "&level.greaterThanOrEqual=" + DEFAULT_LEVEL))
+            .andExpect(status().isOk())
+            .andExpect(content().string("1"));
+
+        restCompetenceMockMvc
+            .perform(get(ENTITY_API_URL + filter + "&level.greaterThan=" + DEFAULT_LEVEL))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$").isEmpty());
+        restCompetenceMockMvc
+            .perform(get(ENTITY_API_URL + "/count" + filter + "&name.equals=" + UPDATED_NAME))
+            .andExpect(status().isOk())
+            .andExpect(content().string("0"));
+    }
+
     @Test
     @Transactional
     void getCompetence() throws Exception {
@@ -153,6 +205,121 @@ class CompetenceResourceIT {
         restCompetenceMockMvc.perform(get(ENTITY_API_URL_ID, Long.MAX_VALUE)).andExpect(status().isNotFound());
     }
 
+    @Test
+    @Transactional
+    void getTopExperts() throws Exception {
+        // Initialize the database, the test transaction is not committed so competences are indexed explicitly
+        Employee junior = EmployeeResourceIT.createEntity(em);
+        Employee senior = EmployeeResourceIT.createEntity(em);
+        Competence juniorCompetence = new Competence().name("Top Experts").level(2);
+        Competence seniorCompetence = new Competence().name("top experts").level(5);
+        Competence seniorOtherCompetence = new Competence().name("Top Experts").level(3);
+        junior.addCompetence(juniorCompetence);
+        senior.addCompetence(seniorCompetence).addCompetence(seniorOtherCompetence);
+        em.persist(junior);
+        em.persist(senior);
+        em.persist(juniorCompetence);
+        em.persist(seniorCompetence);
+        em.persist(seniorOtherCompetence);
+        em.flush();
+        List<Competence> competences = List.of(juniorCompetence, seniorCompetence, seniorOtherCompetence);
+        competences.forEach(competenceIndexService::index);
+
+        try {
+            restCompetenceMockMvc
+                .perform(get(ENTITY_API_URL + "/{name}/top?k=5", "TOP EXPERTS"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.[*].employeeId").value(contains(senior.getId().intValue(), junior.getId().intValue())))
+                .andExpect(jsonPath("$.[*].level").value(contains(5, 2)))
+                .andExpect(jsonPath("$.[*].rank").value(contains(1, 2)));
+
+            restCompetenceMockMvc
+                .perform(get(ENTITY_API_URL + "/{name}/top?k=1", "Top Experts"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.[*].employeeId").value(contains(senior.getId().intValue())));
+
+            // the ranking is updated incrementally
+            seniorCompetence.setLevel(1);
+            competenceIndexService.index(seniorCompetence);
+            restCompetenceMockMvc
+                .perform(get(ENTITY_API_URL + "/{name}/top", "Top Experts"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.[*].level").value(contains(3, 2)));
+        } finally {
+            competences.forEach(competence -> competenceIndexService.remove(competence.getId()));
+        }
+    }
+
+    @Test
+    void getTopExpertsOfCommittedCompetences() throws Exception {
+        // Initialize the database in committed transactions, the competences being indexed by the post-commit listeners
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        Employee employee = transactionTemplate.execute(status -> employeeRepository.saveAndFlush(EmployeeResourceIT.createEntity(em)));
+        Competence committedCompetence = transactionTemplate.execute(status ->
+            competenceRepository.saveAndFlush(new Competence().name("Committed Experts").level(4).employee(employee))
+        );
+
+        try {
+            restCompetenceMockMvc
+                .perform(get(ENTITY_API_URL + "/{name}/top", "Committed Experts"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.[*].employeeId").value(contains(employee.getId().intValue())))
+                .andExpect(jsonPath("$.[*].level").value(contains(4)));
+
+            transactionTemplate.executeWithoutResult(status ->
+                competenceRepository.findById(committedCompetence.getId()).orElseThrow().setLevel(1)
+            );
+            restCompetenceMockMvc
+                .perform(get(ENTITY_API_URL + "/{name}/top", "Committed Experts"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.[*].level").value(contains(1)));
+        } finally {
+            transactionTemplate.executeWithoutResult(status -> {
+                competenceRepository.deleteById(committedCompetence.getId());
+                employeeRepository.deleteById(employee.getId());
+            });
+        }
+        restCompetenceMockMvc
+            .perform(get(ENTITY_API_URL + "/{name}/top", "Committed Experts"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$").isEmpty());
+    }
+
+    @Test
+    void fullTextSearchCompetences() throws Exception {
+        // Not transactional: the full-text index is only updated when the transaction commits
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        Category category = transactionTemplate.execute(status -> categoryRepository.saveAndFlush(CategoryResourceIT.createEntity(em)));
+        Employee employee = transactionTemplate.execute(status -> employeeRepository.saveAndFlush(EmployeeResourceIT.createEntity(em)));
+        Competence committedCompetence = transactionTemplate.execute(status ->
+            competenceRepository.saveAndFlush(new Competence().name("Fulltextcompetence").level(3).category(category).employee(employee))
+        );
+
+        try {
+            restCompetenceMockMvc
+                .perform(get("/api/_search/competences?q=fulltextcompetence"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Total-Count", "1"))
+                .andExpect(jsonPath("$.[0].id").value(committedCompetence.getId().intValue()))
+                .andExpect(jsonPath("$.[0].name").value("Fulltextcompetence"))
+                .andExpect(jsonPath("$.[0].level").value(3))
+                .andExpect(jsonPath("$.[0].category.id").value(category.getId().intValue()))
+                .andExpect(jsonPath("$.[0].employee.id").value(employee.getId().intValue()));
+        } finally {
+            transactionTemplate.executeWithoutResult(status -> {
+                competenceRepository.deleteById(committedCompetence.getId());
+                employeeRepository.deleteById(employee.getId());
+                categoryRepository.deleteById(category.getId());
+            });
+        }
+    }
+
+    @Test
+    @Transactional
+    void getTopExpertsWithInvalidK() throws Exception {
+        restCompetenceMockMvc.perform(get(ENTITY_API_URL + "/{name}/top?k=0", DEFAULT_NAME)).andExpect(status().isBadRequest());
+    }
+
     @Test
     @Transactional
     void putNewCompetence() throws Exception {
@@ -183,6 +350,57 @@ class CompetenceResourceIT {
         assertThat(testCompetence.getLevel()).isEqualTo(UPDATED_LEVEL);
     }
 
+    @Test
+    @Transactional
+    void putCompetenceWithIfMatch() throws Exception {
+        // Initialize the database
+        competenceRepository.saveAndFlush(competence);
+
+        Competence updatedCompetence = new Competence().name(UPDATED_NAME).level(DEFAULT_LEVEL);
+        updatedCompetence.setId(competence.getId());
+
+        String eTag = restCompetenceMockMvc
+            .perform(
+                put(ENTITY_API_URL_ID, updatedCompetence.getId())
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(TestUtil.convertObjectToJsonBytes(updatedCompetence))
+            )
+            .andExpect(status().isOk())
+            .andReturn()
+            .getResponse()
+            .getHeader(HttpHeaders.ETAG);
+        assertThat(eTag).isNotNull().doesNotStartWith("W/");
+
+        updatedCompetence.level(UPDATED_LEVEL);
+        String updatedETag = restCompetenceMockMvc
+            .perform(
+                put(ENTITY_API_URL_ID, updatedCompetence.getId())
+                    .header(HttpHeaders.IF_MATCH, eTag)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(TestUtil.convertObjectToJsonBytes(updatedCompetence))
+            )
+            .andExpect(status().isOk())
+            .andReturn()
+            .getResponse()
+            .getHeader(HttpHeaders.ETAG);
+        assertThat(updatedETag).isNotNull().isNotEqualTo(eTag);
+
+        // A second editor, who read the competence before the last update, must not overwrite it
+        updatedCompetence.name(DEFAULT_NAME).level(DEFAULT_LEVEL);
+        restCompetenceMockMvc
+            .perform(
+                put(ENTITY_API_URL_ID, updatedCompetence.getId())
+                    .header(HttpHeaders.IF_MATCH, eTag)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(TestUtil.convertObjectToJsonBytes(updatedCompetence))
+            )
+            .andExpect(status().isPreconditionFailed());
+
+        Competence testCompetence = competenceRepository.findById(competence.getId()).get();
+        assertThat(testCompetence.getName()).isEqualTo(UPDATED_NAME);
+        assertThat(testCompetence.getLevel()).isEqualTo(UPDATED_LEVEL);
+    }
+
     @Test
     @Transactional
     void putNonExistingCompetence() throws Exception {
@@ -299,6 +517,33 @@ class CompetenceResourceIT {
         assertThat(testCompetence.getLevel()).isEqualTo(UPDATED_LEVEL);
     }
 
+    @Test
+    @Transactional
+    void updateCompetenceLevelsWithPatch() throws Exception {
+        // Initialize the database
+        competenceRepository.saveAndFlush(competence);
+        Competence other = competenceRepository.saveAndFlush(createEntity(em));
+
+        List<CompetenceLevelDTO> changes = List.of(
+            new CompetenceLevelDTO(competence.getId(), UPDATED_LEVEL),
+            new CompetenceLevelDTO(count.incrementAndGet(), UPDATED_LEVEL),
+            new CompetenceLevelDTO(competence.getId(), DEFAULT_LEVEL),
+            new CompetenceLevelDTO(other.getId(), null),
+            new CompetenceLevelDTO(other.getId(), 5)
+        );
+
+        restCompetenceMockMvc
+            .perform(patch(ENTITY_API_URL).contentType(MediaType.APPLICATION_JSON).content(TestUtil.convertObjectToJsonBytes(changes)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.updated").value(2))
+            .andExpect(jsonPath("$.failed").value(3))
+            .andExpect(jsonPath("$.results[*].status").value(contains("UPDATED", "NOT_FOUND", "INVALID", "INVALID", "UPDATED")));
+
+        // Validate the Competences in the database
+        assertThat(competenceRepository.findById(competence.getId())).get().extracting(Competence::getLevel).isEqualTo(UPDATED_LEVEL);
+        assertThat(competenceRepository.findById(other.getId())).get().extracting(Competence::getLevel).isEqualTo(5);
+    }
+
     @Test
     @Transactional
     void patchNonExistingCompetence() throws Exception {
@@ -1,24 +1,34 @@
 package com.mycompany.myapp.web.rest;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.hasItem;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 import com.mycompany.myapp.IntegrationTest;
+import com.mycompany.myapp.domain.Category;
+import com.mycompany.myapp.domain.Competence;
 import com.mycompany.myapp.domain.Employee;
+import com.mycompany.myapp.repository.CompetenceRepository;
 import com.mycompany.myapp.repository.EmployeeRepository;
+import com.mycompany.myapp.service.CompetenceIndexService;
 import java.util.List;
 import java.util.Random;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
 import javax.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.transaction.annotation.Transactional;
 
 /**
@@ -47,6 +57,12 @@ class EmployeeResourceIT {
     @Autowired
     private EmployeeRepository employeeRepository;
 
+    @Autowired
+    private CompetenceRepository competenceRepository;
+
+    @Autowired
+    private CompetenceIndexService competenceIndexService;
+
     @Autowired
     private EntityManager em;
 
@@ -100,6 +116,101 @@ class EmployeeResourceIT {
         assertThat(testEmployee.getAddress()).isEqualTo(DEFAULT_ADDRESS);
     }
 
+    @Test
+    void bulkImportEmployeesFromJson() throws Exception {
+        String name = "bulk-json-" + count.incrementAndGet();
+        String body =
+            "[{\"name\":\"" +
+            name +
+            "\",\"competences\":[{\"name\":\"java\",\"level\":4}]}," +
+            "{\"id\":1,\"name\":\"" +
+            name +
+            "\"}," +
+            "{\"name\":\"" +
+            name +
+            "\",\"competences\":[{\"name\":\"sql\",\"level\":\"high\"}]}," +
+            "{\"name\":\"" +
+            name +
+            "\",\"firstName\":\"" +
+            DEFAULT_FIRST_NAME +
+            "\"}]";
+        try {
+            restEmployeeMockMvc
+                .perform(post(ENTITY_API_URL + "/bulk").contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(2))
+                .andExpect(jsonPath("$.failed").value(2))
+                .andExpect(jsonPath("$.errors.[*].row").value(containsInAnyOrder(2, 3)));
+
+            List<Employee> imported = findEmployeesByName(name);
+            assertThat(imported).hasSize(2);
+            assertThat(competenceRepository.findAll()).anyMatch(c -> c.getEmployee() != null && name.equals(c.getEmployee().getName()));
+        } finally {
+            deleteEmployeesByName(name);
+        }
+    }
+
+    @Test
+    void bulkImportEmployeesFromJsonWithNonObjectRow() throws Exception {
+        String name = "bulk-json-" + count.incrementAndGet();
+        String body = "[{\"name\":\"" + name + "\"},1,{\"name\":\"" + name + "\"}]";
+        try {
+            restEmployeeMockMvc
+                .perform(post(ENTITY_API_URL + "/bulk").contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(2))
+                .andExpect(jsonPath("$.failed").value(1))
+                .andExpect(jsonPath("$.errors.[0].row").value(2));
+
+            assertThat(findEmployeesByName(name)).hasSize(2);
+        } finally {
+            deleteEmployeesByName(name);
+        }
+    }
+
+    @Test
+    void bulkImportEmployeesFromCsv() throws Exception {
+        String name = "bulk-csv-" + count.incrementAndGet();
+        String body =
+            "name;first_name;address;competences\n" +
+            name +
+            ";" +
+            DEFAULT_FIRST_NAME +
+            ";\"1; main street\";java:4|kubernetes:3\n" +
+            name +
+            ";;;java:four\n";
+        try {
+            restEmployeeMockMvc
+                .perform(post(ENTITY_API_URL + "/bulk").contentType("text/csv").content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(1))
+                .andExpect(jsonPath("$.failed").value(1))
+                .andExpect(jsonPath("$.errors.[0].row").value(2));
+
+            List<Employee> imported = findEmployeesByName(name);
+            assertThat(imported).hasSize(1);
+            assertThat(imported.get(0).getAddress()).isEqualTo("1; main street");
+        } finally {
+            deleteEmployeesByName(name);
+        }
+    }
+
+    private List<Employee> findEmployeesByName(String name) {
+        return employeeRepository.findAll().stream().filter(e -> name.equals(e.getName())).collect(Collectors.toList());
+    }
+
+    private void deleteEmployeesByName(String name) {
+        List<Employee> employees = findEmployeesByName(name);
+        competenceRepository.deleteAll(
+            competenceRepository
+                .findAll()
+                .stream()
+                .filter(c -> c.getEmployee() != null && employees.contains(c.getEmployee()))
+                .collect(Collectors.toList())
+        );
+        employeeRepository.deleteAll(employees);
+    }
+
     @Test
     @Transactional
     void createEmployeeWithExistingId() throws Exception {
@@ -135,6 +246,262 @@ class EmployeeResourceIT {
             .andExpect(jsonPath("$.[*].address").value(hasItem(DEFAULT_ADDRESS)));
     }
 
+    @Test
+    @Transactional
+    void getAllEmployeesWithPaginationHeaders() throws Exception {
+        // Initialize the database
+        employeeRepository.saveAndFlush(employee);
+
+        restEmployeeMockMvc
+            .perform(get(ENTITY_API_URL + "?page=0&size=1&sort=id,desc"))
+            .andExpect(status().isOk())
+            .andExpect(header().exists("X-Total-Count"))
+            .andExpect(header().exists(HttpHeaders.LINK))
+            .andExpect(jsonPath("$.length()").value(1));
+    }
+
+    @Test
+    @Transactional
+    void getAllEmployeesWithUnknownSortProperty() throws Exception {
+        restEmployeeMockMvc.perform(get(ENTITY_API_URL + "?sort=competences,asc")).andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @Transactional
+    void getAllEmployeesAfterId() throws Exception {
+        // Initialize the database
+        employeeRepository.saveAndFlush(employee);
+        Employee second = employeeRepository.saveAndFlush(createEntity(em));
+        Employee third = employeeRepository.saveAndFlush(createEntity(em));
+
+        restEmployeeMockMvc
+            .perform(get(ENTITY_API_URL + "?after=" + employee.getId() + "&size=1"))
+            .andExpect(status().isOk())
+            .andExpect(header().doesNotExist("X-Total-Count"))
+            .andExpect(header().string(HttpHeaders.LINK, containsString("after=" + second.getId())))
+            .andExpect(jsonPath("$.length()").value(1))
+            .andExpect(jsonPath("$.[0].id").value(second.getId().intValue()));
+
+        restEmployeeMockMvc
+            .perform(get(ENTITY_API_URL + "?after=" + second.getId() + "&size=1"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.[0].id").value(third.getId().intValue()));
+
+        restEmployeeMockMvc
+            .perform(get(ENTITY_API_URL + "?after=" + third.getId() + "&size=1"))
+            .andExpect(status().isOk())
+            .andExpect(header().doesNotExist(HttpHeaders.LINK))
+            .andExpect(jsonPath("$.length()").value(0));
+    }
+
+    @Test
+    @Transactional
+    void getAllEmployeesIncludingCompetences() throws Exception {
+        // Initialize the database
+        Category category = CategoryResourceIT.createEntity(em);
+        em.persist(category);
+        Competence competence = CompetenceResourceIT.createEntity(em).category(category);
+        employee.addCompetence(competence);
+        em.persist(employee);
+        em.persist(competence);
+        em.flush();
+        em.clear();
+
+        restEmployeeMockMvc
+            .perform(get(ENTITY_API_URL + "?sort=id,desc&include=competences,category"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.[*].competences.[*].id").value(hasItem(competence.getId().intValue())))
+            .andExpect(jsonPath("$.[*].competences.[*].category.id").value(hasItem(category.getId().intValue())));
+
+        restEmployeeMockMvc
+            .perform(get(ENTITY_API_URL_ID + "?include=competences", employee.getId()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.competences.[*].id").value(hasItem(competence.getId().intValue())));
+    }
+
+    @Test
+    @Transactional
+    void getAllEmployeesByNameContains() throws Exception {
+        // Initialize the database
+        employeeRepository.saveAndFlush(employee);
+
+        defaultEmployeeShouldBeFound("name.contains=" + DEFAULT_NAME.substring(2, 6));
+        defaultEmployeeShouldNotBeFound("name.contains=" + UPDATED_NAME);
+        defaultEmployeeShouldBeFound("firstName.in=" + DEFAULT_FIRST_NAME + "," + UPDATED_FIRST_NAME);
+        defaultEmployeeShouldNotBeFound("address.specified=false");
+    }
+
+    @Test
+    @Transactional
+    void getAllEmployeesByCompetenceAndCategory() throws Exception {
+        // Initialize the database, with two competences so that the joins return the employee twice
+        Category category = CategoryResourceIT.createEntity(em);
+        Category otherCategory = CategoryResourceIT.createEntity(em);
+        em.persist(category);
+        em.persist(otherCategory);
+        Competence expert = CompetenceResourceIT.createEntity(em).level(5).category(category);
+        Competence beginner = CompetenceResourceIT.createEntity(em).level(1).category(otherCategory);
+        Competence other = CompetenceResourceIT.createEntity(em).level(4).category(category);
+        employee.addCompetence(expert).addCompetence(beginner).addCompetence(other);
+        em.persist(employee);
+        em.persist(expert);
+        em.persist(beginner);
+        em.persist(other);
+        em.flush();
+
+        defaultEmployeeShouldBeFound("competence.level.greaterThan=3&category.id.in=" + category.getId() + "," + otherCategory.getId());
+        defaultEmployeeShouldBeFound("competence.level.lessThan=2&category.id.equals=" + otherCategory.getId());
+        // both filters must apply to the same competence
+        defaultEmployeeShouldNotBeFound("competence.level.greaterThan=3&category.id.equals=" + otherCategory.getId());
+        defaultEmployeeShouldNotBeFound("competence.name.equals=" + UPDATED_NAME);
+    }
+
+    /**
+     * Executes the search and the count, and checks that the default entity is returned.
+     */
+    private void defaultEmployeeShouldBeFound(String filter) throws Exception {
+        restEmployeeMockMvc
+            .perform(get(ENTITY_API_URL + "?sort=id,desc&id.equals=" + employee.getId() + "&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(header().string("X-Total-Count", "1"))
+            .andExpect(jsonPath("$.[*].id").value(contains(employee.getId().intValue())));
+
+        restEmployeeMockMvc
+            .perform(get(ENTITY_API_URL + "/count?id.equals=" + employee.getId() + "&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().string("1"));
+    }
+
+    /**
+     * Executes the search and the count, and checks that the default entity is not returned.
+     */
+    private void defaultEmployeeShouldNotBeFound(String filter) throws Exception {
+        restEmployeeMockMvc
+            .perform(get(ENTITY_API_URL + "?sort=id,desc&id.equals=" + employee.getId() + "&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$").isEmpty());
+
+        restEmployeeMockMvc
+            .perform(get(ENTITY_API_URL + "/count?id.equals=" + employee.getId() + "&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().string("0"));
+    }
+
+    @Test
+    @Transactional
+    void getAllEmployeesWithUnknownInclude() throws Exception {
+        restEmployeeMockMvc.perform(get(ENTITY_API_URL + "?include=manager")).andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @Transactional
+    void searchEmployeesBySkill() throws Exception {
+        // Initialize the database, the test transaction is not committed so competences are indexed explicitly
+        Employee other = createEntity(em);
+        Competence java = new Competence().name("Search Java").level(4);
+        Competence kubernetes = new Competence().name("Search Kubernetes").level(3);
+        Competence otherJava = new Competence().name("search java").level(2);
+        employee.addCompetence(java).addCompetence(kubernetes);
+        other.addCompetence(otherJava);
+        em.persist(employee);
+        em.persist(other);
+        em.persist(java);
+        em.persist(kubernetes);
+        em.persist(otherJava);
+        em.flush();
+        List.of(java, kubernetes, otherJava).forEach(competenceIndexService::index);
+
+        try {
+            restEmployeeMockMvc
+                .perform(get(ENTITY_API_URL + "/search?skill=Search Java:4&skill=Search Kubernetes:3"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Total-Count", "1"))
+                .andExpect(jsonPath("$.[*].id").value(contains(employee.getId().intValue())));
+
+            restEmployeeMockMvc
+                .perform(get(ENTITY_API_URL + "/search?skill=search java&skill=search kubernetes:5&operator=or"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.[*].id").value(contains(employee.getId().intValue(), other.getId().intValue())));
+
+            restEmployeeMockMvc
+                .perform(get(ENTITY_API_URL + "/search?skill=search java:5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(0));
+        } finally {
+            List.of(java, kubernetes, otherJava).forEach(competence -> competenceIndexService.remove(competence.getId()));
+        }
+    }
+
+    @Test
+    @Transactional
+    void searchEmployeesWithInvalidSkill() throws Exception {
+        restEmployeeMockMvc.perform(get(ENTITY_API_URL + "/search?skill=java:expert")).andExpect(status().isBadRequest());
+        restEmployeeMockMvc.perform(get(ENTITY_API_URL + "/search?skill=java&operator=xor")).andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void fullTextSearchEmployees() throws Exception {
+        // Not transactional: the full-text index is only updated when the transaction commits
+        String name = "Fulltext" + Math.abs(count.incrementAndGet());
+        String body =
+            "name;first_name;address;competences\n" + name + ";Héloïse;12 Rue des Écoles;Kubernetes:3\n" + name + ";Marc;;Java:4\n";
+        try {
+            restEmployeeMockMvc
+                .perform(post(ENTITY_API_URL + "/bulk").contentType("text/csv").content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(2));
+
+            restEmployeeMockMvc
+                .perform(get("/api/_search/employees?q=" + name.toLowerCase() + " heloise ecoles"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Total-Count", "1"))
+                .andExpect(jsonPath("$.[0].firstName").value("Héloïse"));
+
+            restEmployeeMockMvc
+                .perform(get("/api/_search/employees?q=" + name + " kubernetes"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.[*].firstName").value(contains("Héloïse")));
+
+            restEmployeeMockMvc
+                .perform(get("/api/_search/employees?q=" + name))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2));
+        } finally {
+            deleteEmployeesByName(name);
+        }
+        restEmployeeMockMvc
+            .perform(get("/api/_search/employees?q=" + name))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value(0));
+    }
+
+    @Test
+    void fullTextSearchEmployeesWithBlankQuery() throws Exception {
+        restEmployeeMockMvc.perform(get("/api/_search/employees?q= ")).andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @Transactional
+    void exportEmployees() throws Exception {
+        // Initialize the database
+        Category category = CategoryResourceIT.createEntity(em);
+        em.persist(category);
+        Competence competence = CompetenceResourceIT.createEntity(em).category(category);
+        employee.addCompetence(competence);
+        em.persist(employee);
+        em.persist(competence);
+        em.flush();
+
+        restEmployeeMockMvc
+            .perform(get(ENTITY_API_URL + "/export"))
+            .andExpect(status().isOk())
+            .andExpect(content().contentTypeCompatibleWith("application/x-ndjson"))
+            .andExpect(content().string(containsString("{\"id\":" + employee.getId() + ",\"name\":\"" + DEFAULT_NAME + "\"")))
+            .andExpect(content().string(containsString("\"competences\":[{\"id\":" + competence.getId())))
+            .andExpect(content().string(containsString("\"category\":{\"id\":" + category.getId())));
+    }
+
     @Test
     @Transactional
     void getEmployee() throws Exception {
@@ -152,6 +519,53 @@ class EmployeeResourceIT {
             .andExpect(jsonPath("$.address").value(DEFAULT_ADDRESS));
     }
 
+    @Test
+    @Transactional
+    void getEmployeeNotModified() throws Exception {
+        // Initialize the database
+        Competence competence = CompetenceResourceIT.createEntity(em);
+        employee.addCompetence(competence);
+        employeeRepository.saveAndFlush(employee);
+        em.persist(competence);
+        em.flush();
+
+        MvcResult result = restEmployeeMockMvc
+            .perform(get(ENTITY_API_URL_ID + "?include=competences", employee.getId()))
+            .andExpect(status().isOk())
+            .andExpect(header().exists(HttpHeaders.ETAG))
+            .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+            .andReturn();
+        String eTag = result.getResponse().getHeader(HttpHeaders.ETAG);
+        String lastModified = result.getResponse().getHeader(HttpHeaders.LAST_MODIFIED);
+        String employeeETag = restEmployeeMockMvc
+            .perform(get(ENTITY_API_URL_ID, employee.getId()))
+            .andExpect(status().isOk())
+            .andReturn()
+            .getResponse()
+            .getHeader(HttpHeaders.ETAG);
+
+        restEmployeeMockMvc
+            .perform(get(ENTITY_API_URL_ID + "?include=competences", employee.getId()).header(HttpHeaders.IF_NONE_MATCH, eTag))
+            .andExpect(status().isNotModified())
+            .andExpect(header().string(HttpHeaders.ETAG, eTag))
+            .andExpect(content().string(""));
+        restEmployeeMockMvc
+            .perform(get(ENTITY_API_URL_ID + "?include=competences", employee.getId()).header(HttpHeaders.IF_MODIFIED_SINCE, lastModified))
+            .andExpect(status().isNotModified());
+
+        // A change of a competence is a change of the employee with its competences, not of the employee alone
+        competence.setLevel(5);
+        em.flush();
+
+        restEmployeeMockMvc
+            .perform(get(ENTITY_API_URL_ID + "?include=competences", employee.getId()).header(HttpHeaders.IF_NONE_MATCH, eTag))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.competences.[*].level").value(hasItem(5)));
+        restEmployeeMockMvc
+            .perform(get(ENTITY_API_URL_ID, employee.getId()).header(HttpHeaders.IF_NONE_MATCH, employeeETag))
+            .andExpect(status().isNotModified());
+    }
+
     @Test
     @Transactional
     void getNonExistingEmployee() throws Exception {
@@ -277,6 +691,57 @@ class EmployeeResourceIT {
         assertThat(testEmployee.getAddress()).isEqualTo(UPDATED_ADDRESS);
     }
 
+    @Test
+    @Transactional
+    void partialUpdateEmployeeWithIfMatch() throws Exception {
+        // Initialize the database
+        employeeRepository.saveAndFlush(employee);
+
+        String eTag = restEmployeeMockMvc
+            .perform(get(ENTITY_API_URL_ID, employee.getId()))
+            .andExpect(status().isOk())
+            .andReturn()
+            .getResponse()
+            .getHeader(HttpHeaders.ETAG);
+
+        Employee partialUpdatedEmployee = new Employee();
+        partialUpdatedEmployee.setId(employee.getId());
+        partialUpdatedEmployee.firstName(UPDATED_FIRST_NAME);
+
+        String updatedETag = restEmployeeMockMvc
+            .perform(
+                patch(ENTITY_API_URL_ID, partialUpdatedEmployee.getId())
+                    .header(HttpHeaders.IF_MATCH, eTag)
+                    .contentType("application/merge-patch+json")
+                    .content(TestUtil.convertObjectToJsonBytes(partialUpdatedEmployee))
+            )
+            .andExpect(status().isOk())
+            .andReturn()
+            .getResponse()
+            .getHeader(HttpHeaders.ETAG);
+        assertThat(updatedETag).isNotNull().isNotEqualTo(eTag);
+
+        // A second editor, who read the employee before the first update, must not overwrite it
+        partialUpdatedEmployee.firstName(null).address(UPDATED_ADDRESS);
+        restEmployeeMockMvc
+            .perform(
+                patch(ENTITY_API_URL_ID, partialUpdatedEmployee.getId())
+                    .header(HttpHeaders.IF_MATCH, eTag)
+                    .contentType("application/merge-patch+json")
+                    .content(TestUtil.convertObjectToJsonBytes(partialUpdatedEmployee))
+            )
+            .andExpect(status().isPreconditionFailed());
+
+        Employee testEmployee = employeeRepository.findById(employee.getId()).get();
+        assertThat(testEmployee.getFirstName()).isEqualTo(UPDATED_FIRST_NAME);
+        assertThat(testEmployee.getAddress()).isEqualTo(DEFAULT_ADDRESS);
+
+        // The ETag of the update response is the one to use next
+        restEmployeeMockMvc
+            .perform(get(ENTITY_API_URL_ID, employee.getId()).header(HttpHeaders.IF_NONE_MATCH, updatedETag))
+            .andExpect(status().isNotModified());
+    }
+
     @Test
     @Transactional
     void fullUpdateEmployeeWithPatch() throws Exception {
@@ -381,4 +846,71 @@ class EmployeeResourceIT {
         List<Employee> employeeList = employeeRepository.findAll();
         assertThat(employeeList).hasSize(databaseSizeBeforeDelete - 1);
     }
+
+    @Test
+    @Transactional
+    void deleteNonExistingEmployee() throws Exception {
+        int databaseSizeBeforeDelete = employeeRepository.findAll().size();
+
+        restEmployeeMockMvc
+            .perform(delete(ENTITY_API_URL_ID, count.incrementAndGet()).accept(MediaType.APPLICATION_JSON))
+            .andExpect(status().isNotFound())
+            .andExpect(header().doesNotExist("X-employeeManagementApp-alert"));
+
+        assertThat(employeeRepository.findAll()).hasSize(databaseSizeBeforeDelete);
+    }
+
+    @Test
+    @Transactional
+    void deleteEmployeeWithCompetences() throws Exception {
+        // Initialize the database
+        employeeRepository.saveAndFlush(employee);
+        Competence competence = CompetenceResourceIT.createEntity(em);
+        competence.setEmployee(employee);
+        competenceRepository.saveAndFlush(competence);
+
+        int databaseSizeBeforeDelete = employeeRepository.findAll().size();
+        long competencesBeforeDelete = competenceRepository.count();
+
+        // Delete the employee
+        restEmployeeMockMvc
+            .perform(delete(ENTITY_API_URL_ID, employee.getId()).accept(MediaType.APPLICATION_JSON))
+            .andExpect(status().isNoContent());
+
+        // Validate the database contains neither the employee nor its competence
+        assertThat(employeeRepository.findAll()).hasSize(databaseSizeBeforeDelete - 1);
+        assertThat(competenceRepository.count()).isEqualTo(competencesBeforeDelete - 1);
+    }
+
+    @Test
+    @Transactional
+    void deleteEmployeesWithCompetences() throws Exception {
+        // Initialize the database
+        employeeRepository.saveAndFlush(employee);
+        Employee other = employeeRepository.saveAndFlush(createEntity(em));
+        Competence competence = CompetenceResourceIT.createEntity(em);
+        competence.setEmployee(other);
+        competenceRepository.saveAndFlush(competence);
+
+        int databaseSizeBeforeDelete = employeeRepository.findAll().size();
+        long competencesBeforeDelete = competenceRepository.count();
+
+        // Delete the employees
+        restEmployeeMockMvc
+            .perform(delete(ENTITY_API_URL + "?id.in=" + employee.getId() + "," + other.getId()).accept(MediaType.APPLICATION_JSON))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.status").value("DONE"))
+            .andExpect(jsonPath("$.total").value(2))
+            .andExpect(jsonPath("$.deleted").value(2));
+
+        // Validate the database contains neither the employees nor their competences
+        assertThat(employeeRepository.findAll()).hasSize(databaseSizeBeforeDelete - 2);
+        assertThat(competenceRepository.count()).isEqualTo(competencesBeforeDelete - 1);
+    }
+
+    @Test
+    @Transactional
+    void deleteEmployeesWithoutCriteria() throws Exception {
+        restEmployeeMockMvc.perform(delete(ENTITY_API_URL).accept(MediaType.APPLICATION_JSON)).andExpect(status().isBadRequest());
+    }
 }